@@ -0,0 +1,92 @@
+package com.skypro.simplebanking.audit;
+
+import com.skypro.simplebanking.entity.AuditEventType;
+import java.time.Instant;
+
+public class AuditEvent {
+  private static final int MAX_DETAIL_LENGTH = 255;
+
+  private final Instant occurredAt;
+  private final AuditEventType type;
+  private final Long actorId;
+  private final Long accountId;
+  private final Long amount;
+  private final String outcome;
+  private final String handler;
+  private final String detail;
+
+  public AuditEvent(
+      Instant occurredAt,
+      AuditEventType type,
+      Long actorId,
+      Long accountId,
+      Long amount,
+      String outcome,
+      String handler,
+      String detail) {
+    this.occurredAt = occurredAt;
+    this.type = type;
+    this.actorId = actorId;
+    this.accountId = accountId;
+    this.amount = amount;
+    this.outcome = outcome;
+    this.handler = handler;
+    this.detail = detail;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+
+  public AuditEventType getType() {
+    return type;
+  }
+
+  public Long getActorId() {
+    return actorId;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public String getOutcome() {
+    return outcome;
+  }
+
+  public String getHandler() {
+    return handler;
+  }
+
+  public String getDetail() {
+    return detail;
+  }
+
+  public static AuditEvent request(Long actorId, int status, String handler, String detail) {
+    return new AuditEvent(
+        Instant.now(),
+        AuditEventType.REQUEST,
+        actorId,
+        null,
+        null,
+        String.valueOf(status),
+        handler,
+        detail.length() > MAX_DETAIL_LENGTH ? detail.substring(0, MAX_DETAIL_LENGTH) : detail);
+  }
+
+  public static AuditEvent movement(Long actorId, long accountId, long amount) {
+    return new AuditEvent(
+        Instant.now(),
+        AuditEventType.MOVEMENT,
+        actorId,
+        accountId,
+        amount,
+        "COMMITTED",
+        null,
+        null);
+  }
+}
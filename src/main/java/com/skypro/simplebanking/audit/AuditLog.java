@@ -0,0 +1,162 @@
+package com.skypro.simplebanking.audit;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Accepts audit events on request threads without blocking on the database and writes them from a
+ * single background thread as multi-row inserts.
+ *
+ * <p>When the buffer is full, {@link AuditOverflowPolicy#BLOCK} makes the caller wait for space
+ * up to {@code app.audit.block-timeout-ms} and {@link AuditOverflowPolicy#DROP} discards the event
+ * and counts it. A failed insert is logged and retried with the same batch up to {@code
+ * app.audit.max-retries} times, after which the batch is counted as dropped so one bad batch
+ * cannot stop auditing. Once shutdown starts new events are rejected and counted, and shutdown
+ * waits until everything already accepted is written.
+ */
+@Component
+public class AuditLog {
+  private static final String INSERT_PREFIX =
+      "insert into audit_events"
+          + " (occurred_at, type, actor_id, account_id, amount, outcome, handler, detail) values ";
+  private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+
+  private final JdbcTemplate jdbcTemplate;
+  private final AuditRingBuffer buffer;
+  private final AuditOverflowPolicy overflowPolicy;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final long shutdownTimeoutMillis;
+  private final long blockTimeoutNanos;
+  private final int maxRetries;
+  private final AtomicLong droppedEvents = new AtomicLong();
+  private final AtomicInteger activeProducers = new AtomicInteger();
+  private final Thread writerThread;
+  private volatile boolean running = true;
+
+  public AuditLog(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.audit.buffer-capacity}") int bufferCapacity,
+      @Value("${app.audit.overflow-policy}") AuditOverflowPolicy overflowPolicy,
+      @Value("${app.audit.batch-size}") int batchSize,
+      @Value("${app.audit.flush-interval-ms}") long flushIntervalMillis,
+      @Value("${app.audit.shutdown-timeout-ms}") long shutdownTimeoutMillis,
+      @Value("${app.audit.block-timeout-ms}") long blockTimeoutMillis,
+      @Value("${app.audit.max-retries}") int maxRetries) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.buffer = new AuditRingBuffer(bufferCapacity);
+    this.overflowPolicy = overflowPolicy;
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+    this.maxRetries = maxRetries;
+    this.writerThread = new Thread(this::writeLoop, "audit-writer");
+    this.writerThread.setDaemon(true);
+    this.writerThread.start();
+  }
+
+  public void record(AuditEvent event) {
+    // Registering before checking running pairs with the writer, which only exits once running
+    // is false and no producer is registered, so an accepted event is always drained.
+    activeProducers.incrementAndGet();
+    try {
+      if (running && offer(event)) {
+        return;
+      }
+      droppedEvents.incrementAndGet();
+    } finally {
+      activeProducers.decrementAndGet();
+    }
+  }
+
+  public long getDroppedEvents() {
+    return droppedEvents.get();
+  }
+
+  @PreDestroy
+  public void shutdown() throws InterruptedException {
+    running = false;
+    LockSupport.unpark(writerThread);
+    writerThread.join(shutdownTimeoutMillis);
+  }
+
+  private boolean offer(AuditEvent event) {
+    if (buffer.offer(event)) {
+      return true;
+    }
+    if (overflowPolicy != AuditOverflowPolicy.BLOCK) {
+      return false;
+    }
+    long deadline = System.nanoTime() + blockTimeoutNanos;
+    while (running && System.nanoTime() - deadline < 0) {
+      LockSupport.unpark(writerThread);
+      LockSupport.parkNanos(flushIntervalNanos / 10 + 1);
+      if (buffer.offer(event)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void writeLoop() {
+    List<AuditEvent> batch = new ArrayList<>(batchSize);
+    int failures = 0;
+    while (running || activeProducers.get() > 0 || !buffer.isEmpty() || !batch.isEmpty()) {
+      if (batch.isEmpty() && buffer.drainTo(batch, batchSize) == 0) {
+        LockSupport.parkNanos(flushIntervalNanos);
+        continue;
+      }
+      try {
+        insert(batch);
+        batch.clear();
+        failures = 0;
+      } catch (DataAccessException e) {
+        failures++;
+        if (failures > maxRetries) {
+          log.error("Dropping {} audit events after {} failed inserts", batch.size(), failures, e);
+          droppedEvents.addAndGet(batch.size());
+          batch.clear();
+          failures = 0;
+        } else {
+          log.warn("Audit insert failed, retry {} of {}", failures, maxRetries, e);
+          LockSupport.parkNanos(flushIntervalNanos * failures);
+        }
+      }
+    }
+  }
+
+  private void insert(List<AuditEvent> batch) {
+    StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+    List<Object> arguments = new ArrayList<>(batch.size() * 8);
+    for (AuditEvent event : batch) {
+      if (arguments.size() > 0) {
+        sql.append(", ");
+      }
+      sql.append(ROW_PLACEHOLDERS);
+      arguments.add(Timestamp.from(event.getOccurredAt()));
+      arguments.add(event.getType().name());
+      arguments.add(event.getActorId());
+      arguments.add(event.getAccountId());
+      arguments.add(event.getAmount());
+      arguments.add(event.getOutcome());
+      arguments.add(event.getHandler());
+      arguments.add(event.getDetail());
+    }
+    jdbcTemplate.update(sql.toString(), arguments.toArray());
+  }
+}
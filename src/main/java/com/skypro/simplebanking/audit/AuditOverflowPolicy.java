@@ -0,0 +1,6 @@
+package com.skypro.simplebanking.audit;
+
+public enum AuditOverflowPolicy {
+  BLOCK,
+  DROP
+}
@@ -0,0 +1,68 @@
+package com.skypro.simplebanking.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer. Each slot carries a sequence
+ * number: a producer claims a position with one CAS and publishes by advancing the slot's
+ * sequence; the consumer frees the slot by advancing it one lap further.
+ */
+class AuditRingBuffer {
+  private final AuditEvent[] events;
+  private final AtomicLongArray sequences;
+  private final int mask;
+  private final AtomicLong tail = new AtomicLong();
+  private volatile long head;
+
+  AuditRingBuffer(int requestedCapacity) {
+    int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+    this.events = new AuditEvent[capacity];
+    this.sequences = new AtomicLongArray(capacity);
+    this.mask = capacity - 1;
+    for (int i = 0; i < capacity; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  boolean offer(AuditEvent event) {
+    while (true) {
+      long position = tail.get();
+      int index = (int) (position & mask);
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          events[index] = event;
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  /** Must only be called from the single consumer thread. */
+  int drainTo(List<AuditEvent> target, int maxEvents) {
+    int drained = 0;
+    long position = head;
+    while (drained < maxEvents) {
+      int index = (int) (position & mask);
+      if (sequences.get(index) != position + 1) {
+        break;
+      }
+      target.add(events[index]);
+      events[index] = null;
+      sequences.set(index, position + events.length);
+      position++;
+      drained++;
+    }
+    head = position;
+    return drained;
+  }
+
+  boolean isEmpty() {
+    return tail.get() == head;
+  }
+}
@@ -0,0 +1,29 @@
+package com.skypro.simplebanking.audit;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.event.AccountChangedEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class MovementAuditListener {
+  private final AuditLog auditLog;
+
+  public MovementAuditListener(AuditLog auditLog) {
+    this.auditLog = auditLog;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAccountChanged(AccountChangedEvent event) {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    Long actorId =
+        authentication != null && authentication.getPrincipal() instanceof BankingUserDetails
+            ? ((BankingUserDetails) authentication.getPrincipal()).getId()
+            : null;
+    auditLog.record(
+        AuditEvent.movement(actorId, event.getAccount().getId(), event.getAmountDelta()));
+  }
+}
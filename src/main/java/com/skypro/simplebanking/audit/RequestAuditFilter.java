@@ -0,0 +1,58 @@
+package com.skypro.simplebanking.audit;
+
+import com.skypro.simplebanking.controller.BankingExceptionHandlers;
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+import org.springframework.web.servlet.DispatcherServlet;
+
+@Component
+public class RequestAuditFilter extends OncePerRequestFilter {
+  private final AuditLog auditLog;
+  private final ExceptionHandlerMethodResolver exceptionHandlers =
+      new ExceptionHandlerMethodResolver(BankingExceptionHandlers.class);
+
+  public RequestAuditFilter(AuditLog auditLog) {
+    this.auditLog = auditLog;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+      if (authentication != null && authentication.getPrincipal() instanceof BankingUserDetails) {
+        auditLog.record(
+            AuditEvent.request(
+                ((BankingUserDetails) authentication.getPrincipal()).getId(),
+                response.getStatus(),
+                resolveHandler(request),
+                request.getMethod() + " " + request.getRequestURI()));
+      }
+    }
+  }
+
+  private String resolveHandler(HttpServletRequest request) {
+    Object exception = request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE);
+    if (!(exception instanceof Exception)) {
+      return null;
+    }
+    Method handler = exceptionHandlers.resolveMethod((Exception) exception);
+    return handler == null ? null : handler.getName();
+  }
+}
@@ -0,0 +1,170 @@
+package com.skypro.simplebanking.binary;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.ListAccountDTO;
+import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Fixed-schema binary encoding of the high-volume DTOs, negotiated with {@link #MEDIA_TYPE}. All
+ * numbers are big-endian and there are no field names or tags, so client and server must agree on
+ * the layout:
+ *
+ * <ul>
+ *   <li>{@link AccountDTO}: id (int64), amount (int64), currency ordinal (uint8) — 17 bytes;
+ *   <li>{@link ListAccountDTO}: account id (int64), currency ordinal (uint8);
+ *   <li>{@link UserDTO} and {@link ListUserDTO}: id (int64), username ({@link
+ *       DataOutputStream#writeUTF}), account count (int32), then the accounts;
+ *   <li>a list of any of the above: count (int32), then the elements;
+ *   <li>{@link TransferRequest} (request body only): from account id, to user id, to account id,
+ *       amount (int64 each).
+ * </ul>
+ *
+ * Currency ordinals follow the declaration order of {@link AccountCurrency}, so new currencies
+ * must only be appended.
+ */
+public class BankingBinaryMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+  public static final String MEDIA_TYPE_VALUE = "application/x-banking-binary";
+  public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+  private static final Set<Class<?>> WRITABLE_TYPES =
+      Set.of(AccountDTO.class, UserDTO.class, ListUserDTO.class);
+  private static final long ACCOUNT_LENGTH = 17;
+
+  public BankingBinaryMessageConverter() {
+    super(MEDIA_TYPE);
+  }
+
+  /** Only {@link TransferRequest} is read and only the response DTOs are written. */
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return clazz == TransferRequest.class || WRITABLE_TYPES.contains(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+    return clazz == TransferRequest.class && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canRead(
+      Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+    return type == TransferRequest.class && canRead(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+    return WRITABLE_TYPES.contains(clazz) && canWrite(mediaType);
+  }
+
+  @Override
+  public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+    if (!canWrite(mediaType)) {
+      return false;
+    }
+    if (WRITABLE_TYPES.contains(clazz)) {
+      return true;
+    }
+    if (type instanceof ParameterizedType && Collection.class.isAssignableFrom(clazz)) {
+      Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+      return arguments.length == 1 && WRITABLE_TYPES.contains(arguments[0]);
+    }
+    return false;
+  }
+
+  @Override
+  public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException {
+    return readInternal(TransferRequest.class, inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+      throws IOException {
+    DataInputStream in = new DataInputStream(inputMessage.getBody());
+    try {
+      TransferRequest transferRequest = new TransferRequest();
+      transferRequest.setFromAccountId(in.readLong());
+      transferRequest.setToUserId(in.readLong());
+      transferRequest.setToAccountId(in.readLong());
+      transferRequest.setAmount(in.readLong());
+      return transferRequest;
+    } catch (EOFException e) {
+      throw new HttpMessageNotReadableException("Truncated transfer request", e, inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    DataOutputStream out = new DataOutputStream(outputMessage.getBody());
+    if (object instanceof Collection) {
+      Collection<?> elements = (Collection<?>) object;
+      out.writeInt(elements.size());
+      for (Object element : elements) {
+        writeElement(element, out);
+      }
+    } else {
+      writeElement(object, out);
+    }
+    out.flush();
+  }
+
+  @Override
+  protected Long getContentLength(Object object, @Nullable MediaType contentType) {
+    if (object instanceof AccountDTO) {
+      return ACCOUNT_LENGTH;
+    }
+    return null;
+  }
+
+  private static void writeElement(Object element, DataOutputStream out) throws IOException {
+    if (element instanceof AccountDTO) {
+      writeAccount((AccountDTO) element, out);
+    } else if (element instanceof UserDTO) {
+      UserDTO user = (UserDTO) element;
+      out.writeLong(user.getId());
+      out.writeUTF(user.getUsername());
+      List<AccountDTO> accounts = user.getAccounts();
+      out.writeInt(accounts.size());
+      for (AccountDTO account : accounts) {
+        writeAccount(account, out);
+      }
+    } else if (element instanceof ListUserDTO) {
+      ListUserDTO user = (ListUserDTO) element;
+      out.writeLong(user.getId());
+      out.writeUTF(user.getUsername());
+      List<ListAccountDTO> accounts = user.getAccounts();
+      out.writeInt(accounts.size());
+      for (ListAccountDTO account : accounts) {
+        out.writeLong(account.getAccountId());
+        out.writeByte(account.getCurrency().ordinal());
+      }
+    } else {
+      throw new IllegalArgumentException("Unsupported type " + element.getClass().getName());
+    }
+  }
+
+  private static void writeAccount(AccountDTO account, DataOutputStream out) throws IOException {
+    out.writeLong(account.getId());
+    out.writeLong(account.getAmount());
+    out.writeByte(account.getCurrency().ordinal());
+  }
+}
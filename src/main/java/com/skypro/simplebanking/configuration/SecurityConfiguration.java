@@ -41,6 +41,8 @@ public class SecurityConfiguration {
                 .authorizeHttpRequests()
                 .antMatchers(HttpMethod.POST, "/user/")
                 .hasRole("ADMIN")
+                .antMatchers("/admin/**")
+                .hasRole("ADMIN")
                 .antMatchers("/user/*")
                 .hasRole("USER")
                 .antMatchers("/account/**")
@@ -0,0 +1,88 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.sharding.ShardLayout;
+import com.skypro.simplebanking.sharding.ShardRoutingDataSource;
+import com.skypro.simplebanking.sharding.ShardSchemaInitializer;
+import com.skypro.simplebanking.sharding.ShardSchemaIntegrator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Routes every connection to the shard selected in the current thread. Without {@code
+ * app.sharding.shards} the regular {@code spring.datasource} is the only shard. Which shard owns
+ * which bucket is read from {@link ShardLayout} before Hibernate starts.
+ *
+ * <p>The lazy proxy defers the physical connection until the first statement, so a shard can
+ * still be selected after a transaction has been opened.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfiguration {
+  @Bean
+  public ShardRoutingDataSource shardRoutingDataSource(
+      DataSourceProperties dataSourceProperties, ShardingProperties shardingProperties) {
+    List<DataSource> shards = new ArrayList<>();
+    if (shardingProperties.getShards().isEmpty()) {
+      shards.add(dataSourceProperties.initializeDataSourceBuilder().build());
+    }
+    for (ShardingProperties.Shard shard : shardingProperties.getShards()) {
+      shards.add(
+          DataSourceBuilder.create()
+              .url(shard.getUrl())
+              .username(shard.getUsername())
+              .password(shard.getPassword())
+              .build());
+    }
+    int[] configuredOwners =
+        ShardLayout.parse(
+            shardingProperties.getShards().stream()
+                .map(ShardingProperties.Shard::getBuckets)
+                .collect(Collectors.toList()),
+            shardingProperties.getBucketCount());
+    int[] bucketOwners =
+        ShardLayout.load(
+            shards.get(0), shards.size(), shardingProperties.getBucketCount(), configuredOwners);
+    return new ShardRoutingDataSource(shards, bucketOwners);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+    return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+  }
+
+  @Bean
+  public ShardSchemaIntegrator shardSchemaIntegrator() {
+    return new ShardSchemaIntegrator();
+  }
+
+  @Bean
+  public HibernatePropertiesCustomizer shardSchemaIntegratorCustomizer(
+      ShardSchemaIntegrator shardSchemaIntegrator) {
+    return properties ->
+        properties.put(
+            "hibernate.integrator_provider",
+            (IntegratorProvider) () -> List.of(shardSchemaIntegrator));
+  }
+
+  @Bean
+  public ShardSchemaInitializer shardSchemaInitializer(
+      EntityManagerFactory entityManagerFactory,
+      ShardSchemaIntegrator shardSchemaIntegrator,
+      @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+    return new ShardSchemaInitializer(entityManagerFactory, shardSchemaIntegrator, ddlAuto);
+  }
+}
@@ -0,0 +1,66 @@
+package com.skypro.simplebanking.configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("app.sharding")
+public class ShardingProperties {
+  private int bucketCount = 1024;
+  private List<Shard> shards = new ArrayList<>();
+
+  public int getBucketCount() {
+    return bucketCount;
+  }
+
+  public void setBucketCount(int bucketCount) {
+    this.bucketCount = bucketCount;
+  }
+
+  public List<Shard> getShards() {
+    return shards;
+  }
+
+  public void setShards(List<Shard> shards) {
+    this.shards = shards;
+  }
+
+  public static class Shard {
+    private String url;
+    private String username;
+    private String password;
+    private String buckets;
+
+    public String getUrl() {
+      return url;
+    }
+
+    public void setUrl(String url) {
+      this.url = url;
+    }
+
+    public String getUsername() {
+      return username;
+    }
+
+    public void setUsername(String username) {
+      this.username = username;
+    }
+
+    public String getPassword() {
+      return password;
+    }
+
+    public void setPassword(String password) {
+      this.password = password;
+    }
+
+    public String getBuckets() {
+      return buckets;
+    }
+
+    public void setBuckets(String buckets) {
+      this.buckets = buckets;
+    }
+  }
+}
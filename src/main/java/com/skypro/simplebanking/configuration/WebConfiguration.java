@@ -0,0 +1,16 @@
+package com.skypro.simplebanking.configuration;
+
+import com.skypro.simplebanking.binary.BankingBinaryMessageConverter;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    // Appended after Jackson so JSON stays the default when the client accepts anything.
+    converters.add(new BankingBinaryMessageConverter());
+  }
+}
@@ -3,17 +3,53 @@ package com.skypro.simplebanking.controller;
 import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.dto.BalanceChangeRequest;
 import com.skypro.simplebanking.dto.BankingUserDetails;
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.dto.StatementFormat;
+import com.skypro.simplebanking.exception.InvalidStatementRequestException;
 import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.AccountUpdateBroadcaster;
+import com.skypro.simplebanking.service.StatementService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/account")
 public class AccountController {
   private final AccountService accountService;
+  private final AccountUpdateBroadcaster accountUpdateBroadcaster;
+  private final StatementService statementService;
 
-  public AccountController(AccountService accountService) {
+  public AccountController(
+      AccountService accountService,
+      AccountUpdateBroadcaster accountUpdateBroadcaster,
+      StatementService statementService) {
     this.accountService = accountService;
+    this.accountUpdateBroadcaster = accountUpdateBroadcaster;
+    this.statementService = statementService;
+  }
+
+  @GetMapping(path = "/updates", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter subscribeToUpdates(Authentication authentication) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return accountUpdateBroadcaster.subscribe(bankingUserDetails.getId());
+  }
+
+  @GetMapping("/balances")
+  public List<AccountDTO> getUserAccounts(
+      Authentication authentication, @RequestParam("ids") List<Long> accountIds) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return accountService.getAccounts(bankingUserDetails.getId(), accountIds);
   }
 
   @GetMapping("/{id}")
@@ -37,4 +73,104 @@ public class AccountController {
     BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
     return accountService.withdrawFromAccount(bankingUserDetails.getId(),accountId, balanceChangeRequest.getAmount());
   }
+
+  @PostMapping("/hold/{id}")
+  public HoldDTO holdFunds(
+      Authentication authentication,
+      @PathVariable("id") Long accountId,
+      @RequestBody BalanceChangeRequest balanceChangeRequest) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return accountService.holdFunds(
+        bankingUserDetails.getId(), accountId, balanceChangeRequest.getAmount());
+  }
+
+  @PostMapping("/capture/{holdId}")
+  public HoldDTO captureHold(
+      Authentication authentication,
+      @PathVariable("holdId") Long holdId,
+      @RequestBody BalanceChangeRequest balanceChangeRequest) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return accountService.captureHold(
+        bankingUserDetails.getId(), holdId, balanceChangeRequest.getAmount());
+  }
+
+  @PostMapping("/release/{holdId}")
+  public HoldDTO releaseHold(Authentication authentication, @PathVariable("holdId") Long holdId) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    return accountService.releaseHold(bankingUserDetails.getId(), holdId);
+  }
+
+  @GetMapping("/{id}/statement")
+  public ResponseEntity<StreamingResponseBody> getStatement(
+      Authentication authentication,
+      @PathVariable("id") Long accountId,
+      @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(value = "format", defaultValue = "csv") String format,
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    BankingUserDetails bankingUserDetails = (BankingUserDetails) authentication.getPrincipal();
+    StatementFormat statementFormat = StatementFormat.fromParameter(format);
+    if (from.isAfter(to)) {
+      throw new InvalidStatementRequestException("Statement period start is after its end");
+    }
+    accountService.getAccount(bankingUserDetails.getId(), accountId);
+    Instant fromInstant = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+    Instant toInstant = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+    boolean gzip = acceptsGzip(acceptEncoding);
+    String fileName = "statement-" + accountId + "." + statementFormat.getExtension();
+
+    ResponseEntity.BodyBuilder response =
+        ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(statementFormat.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    return response.body(
+        outputStream -> {
+          if (gzip) {
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, 8192);
+            statementService.writeStatement(
+                accountId, fromInstant, toInstant, statementFormat, gzipOutputStream);
+            gzipOutputStream.finish();
+          } else {
+            statementService.writeStatement(
+                accountId, fromInstant, toInstant, statementFormat, outputStream);
+          }
+        });
+  }
+
+  /** Honours q-values, so {@code gzip;q=0} opts out and {@code *} covers an unlisted gzip. */
+  private static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Double gzipQuality = null;
+    Double wildcardQuality = null;
+    for (String element : acceptEncoding.split(",")) {
+      String[] parts = element.trim().split(";");
+      String coding = parts[0].trim();
+      double quality = 1.0;
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim();
+        if (parameter.startsWith("q=") || parameter.startsWith("Q=")) {
+          try {
+            quality = Double.parseDouble(parameter.substring(2).trim());
+          } catch (NumberFormatException e) {
+            quality = 0;
+          }
+        }
+      }
+      if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+        gzipQuality = quality;
+      } else if (coding.equals("*")) {
+        wildcardQuality = quality;
+      }
+    }
+    if (gzipQuality != null) {
+      return gzipQuality > 0;
+    }
+    return wildcardQuality != null && wildcardQuality > 0;
+  }
 }
@@ -0,0 +1,22 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.dto.ArchiveReportDTO;
+import com.skypro.simplebanking.service.AccountArchiveService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/archive")
+public class ArchiveController {
+  private final AccountArchiveService accountArchiveService;
+
+  public ArchiveController(AccountArchiveService accountArchiveService) {
+    this.accountArchiveService = accountArchiveService;
+  }
+
+  @PostMapping("/accounts")
+  public ArchiveReportDTO archiveDormantAccounts() {
+    return accountArchiveService.archiveDormantAccounts();
+  }
+}
@@ -1,6 +1,7 @@
 package com.skypro.simplebanking.controller;
 
 import com.skypro.simplebanking.exception.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,6 +13,16 @@ public class BankingExceptionHandlers {
     return ResponseEntity.notFound().build();
   }
 
+  @ExceptionHandler(value = {HoldNotFoundException.class})
+  public ResponseEntity<?> handleHoldNotFound() {
+    return ResponseEntity.notFound().build();
+  }
+
+  @ExceptionHandler(value = {HoldNotActiveException.class})
+  public ResponseEntity<?> handleHoldNotActive() {
+    return ResponseEntity.badRequest().body("Hold is no longer active");
+  }
+
   @ExceptionHandler(value = {InsufficientFundsException.class})
   public ResponseEntity<?> handleInsufficientFunds(InsufficientFundsException exception) {
     return ResponseEntity.badRequest().body(exception.getMessage());
@@ -29,6 +40,27 @@ public class BankingExceptionHandlers {
 
   @ExceptionHandler(value = {WrongCurrencyException.class})
   public ResponseEntity<?> handleWrongCurrency() {
-    return ResponseEntity.badRequest().body("Account currencies should be same");
+    return ResponseEntity.badRequest().body("No exchange rate between account currencies");
+  }
+
+  @ExceptionHandler(value = {InvalidExchangeRateException.class})
+  public ResponseEntity<?> handleInvalidExchangeRate() {
+    return ResponseEntity.badRequest().body("Exchange rate should be positive");
+  }
+
+  @ExceptionHandler(value = {TooManySubscribersException.class})
+  public ResponseEntity<?> handleTooManySubscribers() {
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+  }
+
+  @ExceptionHandler(value = {InvalidStatementRequestException.class})
+  public ResponseEntity<?> handleInvalidStatementRequest(
+      InvalidStatementRequestException exception) {
+    return ResponseEntity.badRequest().body(exception.getMessage());
+  }
+
+  @ExceptionHandler(value = {BatchTooLargeException.class})
+  public ResponseEntity<?> handleBatchTooLarge(BatchTooLargeException exception) {
+    return ResponseEntity.badRequest().body(exception.getMessage());
   }
 }
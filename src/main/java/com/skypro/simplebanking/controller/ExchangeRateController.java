@@ -0,0 +1,34 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.dto.ExchangeRateRequest;
+import com.skypro.simplebanking.dto.ExchangeRatesDTO;
+import com.skypro.simplebanking.service.ExchangeRateService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/rates")
+public class ExchangeRateController {
+  private final ExchangeRateService exchangeRateService;
+
+  public ExchangeRateController(ExchangeRateService exchangeRateService) {
+    this.exchangeRateService = exchangeRateService;
+  }
+
+  @GetMapping
+  public ExchangeRatesDTO getRates() {
+    return ExchangeRatesDTO.from(exchangeRateService.getSnapshot());
+  }
+
+  @PostMapping
+  public ExchangeRatesDTO addRate(@RequestBody ExchangeRateRequest exchangeRateRequest) {
+    return ExchangeRatesDTO.from(
+        exchangeRateService.addRate(
+            exchangeRateRequest.getBaseCurrency(),
+            exchangeRateRequest.getQuoteCurrency(),
+            exchangeRateRequest.getRate()));
+  }
+}
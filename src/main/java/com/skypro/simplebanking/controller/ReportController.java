@@ -0,0 +1,25 @@
+package com.skypro.simplebanking.controller;
+
+import com.skypro.simplebanking.dto.CurrencyReportDTO;
+import com.skypro.simplebanking.service.AccountReportService;
+import java.util.List;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/report")
+public class ReportController {
+  private final AccountReportService accountReportService;
+
+  public ReportController(AccountReportService accountReportService) {
+    this.accountReportService = accountReportService;
+  }
+
+  @GetMapping("/accounts")
+  public List<CurrencyReportDTO> getAccountReport(
+      @RequestParam(value = "top", defaultValue = "10") int top) {
+    return accountReportService.getReport(top);
+  }
+}
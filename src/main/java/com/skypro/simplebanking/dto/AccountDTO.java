@@ -2,6 +2,7 @@ package com.skypro.simplebanking.dto;
 
 import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.ArchivedAccount;
 
 public class AccountDTO {
   private final long id;
@@ -29,4 +30,8 @@ public class AccountDTO {
   public static AccountDTO from(Account account) {
     return new AccountDTO(account.getId(), account.getAmount(), account.getAccountCurrency());
   }
+
+  public static AccountDTO from(ArchivedAccount account) {
+    return new AccountDTO(account.getId(), account.getAmount(), account.getAccountCurrency());
+  }
 }
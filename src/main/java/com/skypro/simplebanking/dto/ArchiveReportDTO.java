@@ -0,0 +1,55 @@
+package com.skypro.simplebanking.dto;
+
+/**
+ * Result of an archival run over all shards. Row counts are Postgres' live and dead tuple
+ * statistics for the accounts table, which reflect the delete immediately (allowing for the
+ * statistics collector's short delay). Table and index bytes are the physical sizes after the run:
+ * deleted rows keep their space until VACUUM, so these only shrink on a later run.
+ */
+public class ArchiveReportDTO {
+  private final long archivedAccounts;
+  private final long liveRowsBefore;
+  private final long liveRowsAfter;
+  private final long deadRowsAfter;
+  private final long tableBytes;
+  private final long indexBytes;
+
+  public ArchiveReportDTO(
+      long archivedAccounts,
+      long liveRowsBefore,
+      long liveRowsAfter,
+      long deadRowsAfter,
+      long tableBytes,
+      long indexBytes) {
+    this.archivedAccounts = archivedAccounts;
+    this.liveRowsBefore = liveRowsBefore;
+    this.liveRowsAfter = liveRowsAfter;
+    this.deadRowsAfter = deadRowsAfter;
+    this.tableBytes = tableBytes;
+    this.indexBytes = indexBytes;
+  }
+
+  public long getArchivedAccounts() {
+    return archivedAccounts;
+  }
+
+  public long getLiveRowsBefore() {
+    return liveRowsBefore;
+  }
+
+  public long getLiveRowsAfter() {
+    return liveRowsAfter;
+  }
+
+  public long getDeadRowsAfter() {
+    return deadRowsAfter;
+  }
+
+  public long getTableBytes() {
+    return tableBytes;
+  }
+
+  public long getIndexBytes() {
+    return indexBytes;
+  }
+}
@@ -0,0 +1,35 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.util.List;
+
+public class CurrencyReportDTO {
+  private final AccountCurrency currency;
+  private final long totalAmount;
+  private final long accountCount;
+  private final List<AccountDTO> topBalances;
+
+  public CurrencyReportDTO(
+      AccountCurrency currency, long totalAmount, long accountCount, List<AccountDTO> topBalances) {
+    this.currency = currency;
+    this.totalAmount = totalAmount;
+    this.accountCount = accountCount;
+    this.topBalances = topBalances;
+  }
+
+  public AccountCurrency getCurrency() {
+    return currency;
+  }
+
+  public long getTotalAmount() {
+    return totalAmount;
+  }
+
+  public long getAccountCount() {
+    return accountCount;
+  }
+
+  public List<AccountDTO> getTopBalances() {
+    return topBalances;
+  }
+}
@@ -0,0 +1,34 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.math.BigDecimal;
+
+public class ExchangeRateRequest {
+  private AccountCurrency baseCurrency;
+  private AccountCurrency quoteCurrency;
+  private BigDecimal rate;
+
+  public AccountCurrency getBaseCurrency() {
+    return baseCurrency;
+  }
+
+  public void setBaseCurrency(AccountCurrency baseCurrency) {
+    this.baseCurrency = baseCurrency;
+  }
+
+  public AccountCurrency getQuoteCurrency() {
+    return quoteCurrency;
+  }
+
+  public void setQuoteCurrency(AccountCurrency quoteCurrency) {
+    this.quoteCurrency = quoteCurrency;
+  }
+
+  public BigDecimal getRate() {
+    return rate;
+  }
+
+  public void setRate(BigDecimal rate) {
+    this.rate = rate;
+  }
+}
@@ -0,0 +1,29 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.fx.ExchangeRateSnapshot;
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class ExchangeRatesDTO {
+  private final long version;
+  private final Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> rates;
+
+  public ExchangeRatesDTO(
+      long version, Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> rates) {
+    this.version = version;
+    this.rates = rates;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> getRates() {
+    return rates;
+  }
+
+  public static ExchangeRatesDTO from(ExchangeRateSnapshot snapshot) {
+    return new ExchangeRatesDTO(snapshot.getVersion(), snapshot.getRates());
+  }
+}
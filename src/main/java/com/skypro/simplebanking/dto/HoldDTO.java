@@ -0,0 +1,63 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.entity.AccountHold;
+import com.skypro.simplebanking.entity.HoldStatus;
+import java.time.Instant;
+
+public class HoldDTO {
+  private final long id;
+  private final long accountId;
+  private final long amount;
+  private final Long capturedAmount;
+  private final HoldStatus status;
+  private final Instant expiresAt;
+
+  public HoldDTO(
+      long id,
+      long accountId,
+      long amount,
+      Long capturedAmount,
+      HoldStatus status,
+      Instant expiresAt) {
+    this.id = id;
+    this.accountId = accountId;
+    this.amount = amount;
+    this.capturedAmount = capturedAmount;
+    this.status = status;
+    this.expiresAt = expiresAt;
+  }
+
+  public long getId() {
+    return id;
+  }
+
+  public long getAccountId() {
+    return accountId;
+  }
+
+  public long getAmount() {
+    return amount;
+  }
+
+  public Long getCapturedAmount() {
+    return capturedAmount;
+  }
+
+  public HoldStatus getStatus() {
+    return status;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public static HoldDTO from(AccountHold hold) {
+    return new HoldDTO(
+        hold.getId(),
+        hold.getAccountId(),
+        hold.getAmount(),
+        hold.getCapturedAmount(),
+        hold.getStatus(),
+        hold.getExpiresAt());
+  }
+}
@@ -2,6 +2,7 @@ package com.skypro.simplebanking.dto;
 
 import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.ArchivedAccount;
 
 public class ListAccountDTO {
   private final Long accountId;
@@ -23,4 +24,8 @@ public class ListAccountDTO {
   public static ListAccountDTO from(Account account) {
     return new ListAccountDTO(account.getId(), account.getAccountCurrency());
   }
+
+  public static ListAccountDTO from(ArchivedAccount account) {
+    return new ListAccountDTO(account.getId(), account.getAccountCurrency());
+  }
 }
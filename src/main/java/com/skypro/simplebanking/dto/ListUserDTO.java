@@ -3,6 +3,7 @@ package com.skypro.simplebanking.dto;
 import com.skypro.simplebanking.entity.User;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ListUserDTO {
   private final long id;
@@ -32,6 +33,9 @@ public class ListUserDTO {
     return new ListUserDTO(
         user.getId(),
         user.getUsername(),
-        user.getAccounts().stream().map(ListAccountDTO::from).collect(Collectors.toList()));
+        Stream.concat(
+                user.getAccounts().stream().map(ListAccountDTO::from),
+                user.getArchivedAccounts().stream().map(ListAccountDTO::from))
+            .collect(Collectors.toList()));
   }
 }
@@ -0,0 +1,34 @@
+package com.skypro.simplebanking.dto;
+
+import com.skypro.simplebanking.exception.InvalidStatementRequestException;
+import org.springframework.http.MediaType;
+
+public enum StatementFormat {
+  CSV("text/csv", "csv"),
+  JSON(MediaType.APPLICATION_JSON_VALUE, "json");
+
+  private final String contentType;
+  private final String extension;
+
+  StatementFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public static StatementFormat fromParameter(String format) {
+    for (StatementFormat value : values()) {
+      if (value.extension.equalsIgnoreCase(format)) {
+        return value;
+      }
+    }
+    throw new InvalidStatementRequestException("Unsupported statement format " + format);
+  }
+}
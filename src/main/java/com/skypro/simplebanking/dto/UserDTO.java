@@ -3,6 +3,7 @@ package com.skypro.simplebanking.dto;
 import com.skypro.simplebanking.entity.User;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class UserDTO {
   private final long id;
@@ -31,6 +32,9 @@ public class UserDTO {
     return new UserDTO(
         user.getId(),
         user.getUsername(),
-        user.getAccounts().stream().map(AccountDTO::from).collect(Collectors.toList()));
+        Stream.concat(
+                user.getAccounts().stream().map(AccountDTO::from),
+                user.getArchivedAccounts().stream().map(AccountDTO::from))
+            .collect(Collectors.toList()));
   }
 }
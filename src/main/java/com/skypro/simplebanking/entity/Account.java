@@ -1,15 +1,24 @@
 package com.skypro.simplebanking.entity;
 
 import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 
 @Entity
 @Table(name = "accounts")
 public class Account {
   @Id
-  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account-sequence")
-  @SequenceGenerator(name = "account-sequence", sequenceName = "account_sequence")
+  @GeneratedValue(generator = "account-sequence")
+  @GenericGenerator(
+      name = "account-sequence",
+      strategy = "com.skypro.simplebanking.sharding.ShardedSequenceGenerator",
+      parameters = {
+        @Parameter(name = "sequence_name", value = "account_sequence"),
+        @Parameter(name = "increment_size", value = "50")
+      })
   private Long id;
 
+  @Column(name = "account_currency")
   private AccountCurrency accountCurrency;
   private Long amount;
 
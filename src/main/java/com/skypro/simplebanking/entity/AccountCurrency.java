@@ -1,7 +1,17 @@
 package com.skypro.simplebanking.entity;
 
 public enum AccountCurrency {
-  USD,
-  EUR,
-  RUB
+  USD(2),
+  EUR(2),
+  RUB(2);
+
+  private final int fractionDigits;
+
+  AccountCurrency(int fractionDigits) {
+    this.fractionDigits = fractionDigits;
+  }
+
+  public int getFractionDigits() {
+    return fractionDigits;
+  }
 }
@@ -0,0 +1,110 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+@Entity
+@Table(
+    name = "account_holds",
+    indexes =
+        @Index(
+            name = "account_holds_status_expires_idx",
+            columnList = "status, expires_at"))
+public class AccountHold {
+  @Id
+  @GeneratedValue(generator = "hold-sequence")
+  @GenericGenerator(
+      name = "hold-sequence",
+      strategy = "com.skypro.simplebanking.sharding.ShardedSequenceGenerator",
+      parameters = {
+        @Parameter(name = "sequence_name", value = "hold_sequence"),
+        @Parameter(name = "increment_size", value = "50")
+      })
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private Long userId;
+
+  @Column(nullable = false, updatable = false)
+  private Long accountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  private Long capturedAmount;
+
+  @Column(name = "status", nullable = false)
+  private HoldStatus status;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "expires_at", nullable = false, updatable = false)
+  private Instant expiresAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public void setUserId(Long userId) {
+    this.userId = userId;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Long getCapturedAmount() {
+    return capturedAmount;
+  }
+
+  public void setCapturedAmount(Long capturedAmount) {
+    this.capturedAmount = capturedAmount;
+  }
+
+  public HoldStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(HoldStatus status) {
+    this.status = status;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public void setExpiresAt(Instant expiresAt) {
+    this.expiresAt = expiresAt;
+  }
+}
@@ -0,0 +1,121 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+@Entity
+@Table(
+    name = "account_movements",
+    indexes =
+        @Index(
+            name = "account_movements_account_created_idx",
+            columnList = "account_id, created_at"))
+public class AccountMovement {
+  @Id
+  @GeneratedValue(generator = "movement-sequence")
+  @GenericGenerator(
+      name = "movement-sequence",
+      strategy = "com.skypro.simplebanking.sharding.ShardedSequenceGenerator",
+      parameters = {
+        @Parameter(name = "sequence_name", value = "movement_sequence"),
+        @Parameter(name = "increment_size", value = "50")
+      })
+  private Long id;
+
+  @Column(name = "account_id", nullable = false, updatable = false)
+  private Long accountId;
+
+  @Column(nullable = false, updatable = false)
+  private MovementType type;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  @Column(nullable = false, updatable = false)
+  private Long balance;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(updatable = false)
+  private Long rateVersion;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public void setAccountId(Long accountId) {
+    this.accountId = accountId;
+  }
+
+  public MovementType getType() {
+    return type;
+  }
+
+  public void setType(MovementType type) {
+    this.type = type;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Long getBalance() {
+    return balance;
+  }
+
+  public void setBalance(Long balance) {
+    this.balance = balance;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public Long getRateVersion() {
+    return rateVersion;
+  }
+
+  public void setRateVersion(Long rateVersion) {
+    this.rateVersion = rateVersion;
+  }
+
+  public static AccountMovement of(Account account, MovementType type, long amount) {
+    return of(account, type, amount, null);
+  }
+
+  public static AccountMovement of(
+      Account account, MovementType type, long amount, Long rateVersion) {
+    AccountMovement movement = of(account.getId(), account.getAmount(), type, amount);
+    movement.setRateVersion(rateVersion);
+    return movement;
+  }
+
+  public static AccountMovement of(Long accountId, long balance, MovementType type, long amount) {
+    AccountMovement movement = new AccountMovement();
+    movement.setAccountId(accountId);
+    movement.setType(type);
+    movement.setAmount(amount);
+    movement.setBalance(balance);
+    movement.setCreatedAt(Instant.now());
+    return movement;
+  }
+}
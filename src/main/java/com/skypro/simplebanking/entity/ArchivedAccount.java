@@ -0,0 +1,42 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "archived_accounts")
+public class ArchivedAccount {
+  @Id private Long id;
+
+  @Column(name = "account_currency")
+  private AccountCurrency accountCurrency;
+
+  private Long amount;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(nullable = false, updatable = false, name = "user_id")
+  private User user;
+
+  @Column(name = "archived_at", nullable = false)
+  private Instant archivedAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public AccountCurrency getAccountCurrency() {
+    return accountCurrency;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public Instant getArchivedAt() {
+    return archivedAt;
+  }
+}
@@ -0,0 +1,6 @@
+package com.skypro.simplebanking.entity;
+
+public enum AuditEventType {
+  REQUEST,
+  MOVEMENT
+}
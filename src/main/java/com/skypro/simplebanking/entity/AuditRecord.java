@@ -0,0 +1,73 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "audit_events")
+public class AuditRecord {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "occurred_at", nullable = false)
+  private Instant occurredAt;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "type", nullable = false)
+  private AuditEventType type;
+
+  @Column(name = "actor_id")
+  private Long actorId;
+
+  @Column(name = "account_id")
+  private Long accountId;
+
+  @Column(name = "amount")
+  private Long amount;
+
+  @Column(name = "outcome", nullable = false)
+  private String outcome;
+
+  @Column(name = "handler")
+  private String handler;
+
+  @Column(name = "detail")
+  private String detail;
+
+  public Long getId() {
+    return id;
+  }
+
+  public Instant getOccurredAt() {
+    return occurredAt;
+  }
+
+  public AuditEventType getType() {
+    return type;
+  }
+
+  public Long getActorId() {
+    return actorId;
+  }
+
+  public Long getAccountId() {
+    return accountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public String getOutcome() {
+    return outcome;
+  }
+
+  public String getHandler() {
+    return handler;
+  }
+
+  public String getDetail() {
+    return detail;
+  }
+}
@@ -0,0 +1,70 @@
+package com.skypro.simplebanking.entity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import javax.persistence.*;
+
+/**
+ * Append-only rate history. The id doubles as the snapshot version, so it is an identity column
+ * allocated while {@link com.skypro.simplebanking.repository.ExchangeRateRepository#lockForAppend}
+ * is held: ids then increase in commit order on every node.
+ */
+@Entity
+@Table(name = "exchange_rates")
+public class ExchangeRate {
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private AccountCurrency baseCurrency;
+
+  @Column(nullable = false, updatable = false)
+  private AccountCurrency quoteCurrency;
+
+  @Column(nullable = false, updatable = false, precision = 19, scale = 8)
+  private BigDecimal rate;
+
+  @Column(nullable = false, updatable = false)
+  private Instant createdAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public AccountCurrency getBaseCurrency() {
+    return baseCurrency;
+  }
+
+  public void setBaseCurrency(AccountCurrency baseCurrency) {
+    this.baseCurrency = baseCurrency;
+  }
+
+  public AccountCurrency getQuoteCurrency() {
+    return quoteCurrency;
+  }
+
+  public void setQuoteCurrency(AccountCurrency quoteCurrency) {
+    this.quoteCurrency = quoteCurrency;
+  }
+
+  public BigDecimal getRate() {
+    return rate;
+  }
+
+  public void setRate(BigDecimal rate) {
+    this.rate = rate;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
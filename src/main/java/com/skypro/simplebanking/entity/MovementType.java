@@ -0,0 +1,9 @@
+package com.skypro.simplebanking.entity;
+
+public enum MovementType {
+  OPENING,
+  DEPOSIT,
+  WITHDRAWAL,
+  HOLD,
+  RELEASE
+}
@@ -0,0 +1,40 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+
+@Entity
+@Table(name = "transfer_inbox")
+public class TransferInbox {
+  @Id private Long transferId;
+
+  @Column(nullable = false, updatable = false)
+  private boolean rejected;
+
+  @Column(nullable = false, updatable = false)
+  private Instant receivedAt;
+
+  public Long getTransferId() {
+    return transferId;
+  }
+
+  public void setTransferId(Long transferId) {
+    this.transferId = transferId;
+  }
+
+  public boolean isRejected() {
+    return rejected;
+  }
+
+  public void setRejected(boolean rejected) {
+    this.rejected = rejected;
+  }
+
+  public Instant getReceivedAt() {
+    return receivedAt;
+  }
+
+  public void setReceivedAt(Instant receivedAt) {
+    this.receivedAt = receivedAt;
+  }
+}
@@ -0,0 +1,133 @@
+package com.skypro.simplebanking.entity;
+
+import java.time.Instant;
+import javax.persistence.*;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+
+@Entity
+@Table(
+    name = "transfer_outbox",
+    indexes =
+        @Index(
+            name = "transfer_outbox_status_created_idx",
+            columnList = "status, created_at"))
+public class TransferOutbox {
+  @Id
+  @GeneratedValue(generator = "transfer-sequence")
+  @GenericGenerator(
+      name = "transfer-sequence",
+      strategy = "com.skypro.simplebanking.sharding.ShardedSequenceGenerator",
+      parameters = {
+        @Parameter(name = "sequence_name", value = "transfer_sequence"),
+        @Parameter(name = "increment_size", value = "50")
+      })
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private Long fromUserId;
+
+  @Column(nullable = false, updatable = false)
+  private Long fromAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long toUserId;
+
+  @Column(nullable = false, updatable = false)
+  private Long toAccountId;
+
+  @Column(nullable = false, updatable = false)
+  private Long amount;
+
+  @Column(nullable = false, updatable = false)
+  private Long creditAmount;
+
+  @Column(updatable = false)
+  private Long rateVersion;
+
+  @Column(name = "status", nullable = false)
+  private TransferStatus status;
+
+  @Column(name = "created_at", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getFromUserId() {
+    return fromUserId;
+  }
+
+  public void setFromUserId(Long fromUserId) {
+    this.fromUserId = fromUserId;
+  }
+
+  public Long getFromAccountId() {
+    return fromAccountId;
+  }
+
+  public void setFromAccountId(Long fromAccountId) {
+    this.fromAccountId = fromAccountId;
+  }
+
+  public Long getToUserId() {
+    return toUserId;
+  }
+
+  public void setToUserId(Long toUserId) {
+    this.toUserId = toUserId;
+  }
+
+  public Long getToAccountId() {
+    return toAccountId;
+  }
+
+  public void setToAccountId(Long toAccountId) {
+    this.toAccountId = toAccountId;
+  }
+
+  public Long getAmount() {
+    return amount;
+  }
+
+  public void setAmount(Long amount) {
+    this.amount = amount;
+  }
+
+  public Long getCreditAmount() {
+    return creditAmount;
+  }
+
+  public void setCreditAmount(Long creditAmount) {
+    this.creditAmount = creditAmount;
+  }
+
+  public Long getRateVersion() {
+    return rateVersion;
+  }
+
+  public void setRateVersion(Long rateVersion) {
+    this.rateVersion = rateVersion;
+  }
+
+  public TransferStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(TransferStatus status) {
+    this.status = status;
+  }
+
+  public Instant getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(Instant createdAt) {
+    this.createdAt = createdAt;
+  }
+}
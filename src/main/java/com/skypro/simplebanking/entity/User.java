@@ -1,6 +1,10 @@
 package com.skypro.simplebanking.entity;
 
 import javax.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -9,13 +13,24 @@ import java.util.Set;
 @Table(name = "users")
 public class User {
   @Id
-  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user-generator")
-  @SequenceGenerator(name = "user-generator", sequenceName = "user_sequence")
+  @GeneratedValue(generator = "user-generator")
+  @GenericGenerator(
+      name = "user-generator",
+      strategy = "com.skypro.simplebanking.sharding.ShardedSequenceGenerator",
+      parameters = {
+        @Parameter(name = "sequence_name", value = "user_sequence"),
+        @Parameter(name = "increment_size", value = "50")
+      })
   private Long id;
   private String username;
   private String password;
+  // Batched so listing a page of users loads each collection in a few IN queries, not one per user.
   @OneToMany(cascade = CascadeType.ALL, mappedBy = "user")
+  @BatchSize(size = 100)
   private Collection<Account> accounts;
+  @OneToMany(mappedBy = "user")
+  @BatchSize(size = 100)
+  private Collection<ArchivedAccount> archivedAccounts = new ArrayList<>();
 
   public Long getId() {
     return id;
@@ -48,4 +63,8 @@ public class User {
   public void setAccounts(Collection<Account> accounts) {
     this.accounts = accounts;
   }
+
+  public Collection<ArchivedAccount> getArchivedAccounts() {
+    return archivedAccounts;
+  }
 }
@@ -0,0 +1,33 @@
+package com.skypro.simplebanking.event;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+
+public class AccountChangedEvent {
+  private final long userId;
+  private final AccountDTO account;
+  private final long amountDelta;
+  private final boolean opened;
+
+  public AccountChangedEvent(long userId, AccountDTO account, long amountDelta, boolean opened) {
+    this.userId = userId;
+    this.account = account;
+    this.amountDelta = amountDelta;
+    this.opened = opened;
+  }
+
+  public long getUserId() {
+    return userId;
+  }
+
+  public AccountDTO getAccount() {
+    return account;
+  }
+
+  public long getAmountDelta() {
+    return amountDelta;
+  }
+
+  public boolean isOpened() {
+    return opened;
+  }
+}
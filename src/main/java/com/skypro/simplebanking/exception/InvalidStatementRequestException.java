@@ -0,0 +1,7 @@
+package com.skypro.simplebanking.exception;
+
+public class InvalidStatementRequestException extends RuntimeException {
+  public InvalidStatementRequestException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,19 @@
+package com.skypro.simplebanking.fx;
+
+public class CurrencyConversion {
+  private final long creditAmount;
+  private final Long rateVersion;
+
+  public CurrencyConversion(long creditAmount, Long rateVersion) {
+    this.creditAmount = creditAmount;
+    this.rateVersion = rateVersion;
+  }
+
+  public long getCreditAmount() {
+    return creditAmount;
+  }
+
+  public Long getRateVersion() {
+    return rateVersion;
+  }
+}
@@ -0,0 +1,86 @@
+package com.skypro.simplebanking.fx;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.ExchangeRate;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.WrongCurrencyException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of exchange rates. The version is the id of the newest rate row it contains, so
+ * the exact rates applied to a transfer can be reconstructed from the exchange_rates history.
+ *
+ * <p>Rates are directional: a rate from USD to EUR does not imply the reverse. Converted amounts
+ * are rounded toward zero in the target currency's minor units, so the credited side never
+ * receives more than the exact converted value.
+ */
+public class ExchangeRateSnapshot {
+  private static final ExchangeRateSnapshot EMPTY =
+      new ExchangeRateSnapshot(0, new EnumMap<>(AccountCurrency.class));
+
+  private final long version;
+  private final Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> rates;
+
+  private ExchangeRateSnapshot(
+      long version, Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> rates) {
+    this.version = version;
+    this.rates = rates;
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> getRates() {
+    return rates;
+  }
+
+  public CurrencyConversion convert(long amount, AccountCurrency from, AccountCurrency to) {
+    if (from == to) {
+      return new CurrencyConversion(amount, null);
+    }
+    BigDecimal rate = rates.getOrDefault(from, Collections.emptyMap()).get(to);
+    if (rate == null) {
+      throw new WrongCurrencyException();
+    }
+    long creditAmount;
+    try {
+      creditAmount =
+          BigDecimal.valueOf(amount)
+              .multiply(rate)
+              .movePointRight(to.getFractionDigits() - from.getFractionDigits())
+              .setScale(0, RoundingMode.DOWN)
+              .longValueExact();
+    } catch (ArithmeticException e) {
+      throw new InvalidAmountException();
+    }
+    if (amount > 0 && creditAmount == 0) {
+      throw new InvalidAmountException();
+    }
+    return new CurrencyConversion(creditAmount, version);
+  }
+
+  public static ExchangeRateSnapshot empty() {
+    return EMPTY;
+  }
+
+  public static ExchangeRateSnapshot of(List<ExchangeRate> exchangeRates) {
+    long version = 0;
+    Map<AccountCurrency, Map<AccountCurrency, BigDecimal>> rates =
+        new EnumMap<>(AccountCurrency.class);
+    for (ExchangeRate exchangeRate : exchangeRates) {
+      version = Math.max(version, exchangeRate.getId());
+      Map<AccountCurrency, BigDecimal> quotes =
+          rates.computeIfAbsent(
+              exchangeRate.getBaseCurrency(), currency -> new EnumMap<>(AccountCurrency.class));
+      quotes.put(exchangeRate.getQuoteCurrency(), exchangeRate.getRate());
+    }
+    rates.replaceAll((currency, quotes) -> Collections.unmodifiableMap(quotes));
+    return new ExchangeRateSnapshot(version, Collections.unmodifiableMap(rates));
+  }
+}
@@ -0,0 +1,56 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.AccountHold;
+import com.skypro.simplebanking.entity.HoldStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountHoldRepository extends JpaRepository<AccountHold, Long> {
+  Optional<AccountHold> findByIdAndUserId(Long id, Long userId);
+
+  /**
+   * Expires up to {@code limit} overdue holds and credits their amounts back in one statement.
+   * Holds locked by a concurrent capture or release are skipped and left to the next pass.
+   * Returns one row per credited account.
+   */
+  @Query(
+      nativeQuery = true,
+      value =
+          "with expired as ("
+              + " update account_holds set status = :expired where id in ("
+              + "  select id from account_holds where status = :active and expires_at < :now"
+              + "  order by expires_at limit :limit for update skip locked)"
+              + " returning account_id, user_id, amount),"
+              + " released as ("
+              + " select account_id, min(user_id) as user_id,"
+              + "  cast(sum(amount) as bigint) as amount, count(*) as holds"
+              + " from expired group by account_id)"
+              + " update accounts a set amount = a.amount + r.amount"
+              + " from released r where a.id = r.account_id"
+              + " returning a.id as \"accountId\", r.user_id as \"userId\","
+              + " a.amount as \"balance\", a.account_currency as \"currency\","
+              + " r.amount as \"released\", r.holds as \"holds\"")
+  List<ExpiredHoldCredit> expireAndCredit(
+      @Param("active") int activeStatus,
+      @Param("expired") int expiredStatus,
+      @Param("now") Instant now,
+      @Param("limit") int limit);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update AccountHold h set h.status = :status, h.capturedAmount = :capturedAmount"
+          + " where h.id = :id and h.status = com.skypro.simplebanking.entity.HoldStatus.ACTIVE"
+          + " and h.expiresAt > :now")
+  int finishUnexpired(
+      @Param("id") Long id,
+      @Param("status") HoldStatus status,
+      @Param("capturedAmount") Long capturedAmount,
+      @Param("now") Instant now);
+}
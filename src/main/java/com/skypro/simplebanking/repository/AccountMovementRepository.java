@@ -0,0 +1,25 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.AccountMovement;
+import java.time.Instant;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountMovementRepository extends JpaRepository<AccountMovement, Long> {
+  @QueryHints({
+    @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+    @QueryHint(name = "org.hibernate.readOnly", value = "true")
+  })
+  @Query(
+      "select m from AccountMovement m"
+          + " where m.accountId = :accountId and m.createdAt >= :from and m.createdAt < :to"
+          + " order by m.createdAt, m.id")
+  Stream<AccountMovement> streamStatement(
+      @Param("accountId") Long accountId, @Param("from") Instant from, @Param("to") Instant to);
+}
@@ -1,11 +1,57 @@
 package com.skypro.simplebanking.repository;
 
+import com.skypro.simplebanking.dto.AccountDTO;
 import com.skypro.simplebanking.entity.Account;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import javax.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
   Optional<Account> getAccountByUser_IdAndId(Long userId, Long accountId);
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select a from Account a where a.user.id = :userId and a.id = :accountId")
+  Optional<Account> findForUpdate(
+      @Param("userId") Long userId, @Param("accountId") Long accountId);
+
+  @Query(
+      "select new com.skypro.simplebanking.dto.AccountDTO(a.id, a.amount, a.accountCurrency)"
+          + " from Account a where a.user.id = :userId and a.id in :accountIds")
+  List<AccountDTO> findAccountsByUser(
+      @Param("userId") Long userId, @Param("accountIds") Collection<Long> accountIds);
+
+  @Query(
+      "select a.accountCurrency as currency, sum(a.amount) as totalAmount, count(a) as accountCount"
+          + " from Account a group by a.accountCurrency")
+  List<CurrencyTotals> findCurrencyTotals();
+
+  @Query(
+      nativeQuery = true,
+      value =
+          "select id, amount, account_currency as currency from ("
+              + " select id, amount, account_currency, row_number() over ("
+              + "  partition by account_currency order by amount desc, id) as position"
+              + " from accounts) ranked where position <= :limit")
+  List<RankedBalance> findTopBalancesPerCurrency(@Param("limit") int limit);
+
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update Account a set a.amount = a.amount - :amount"
+          + " where a.id = :accountId and a.user.id = :userId and a.amount >= :amount")
+  int reserveFunds(
+      @Param("userId") Long userId,
+      @Param("accountId") Long accountId,
+      @Param("amount") Long amount);
+
+  @Modifying(clearAutomatically = true)
+  @Query("update Account a set a.amount = a.amount + :amount where a.id = :accountId")
+  int returnFunds(@Param("accountId") Long accountId, @Param("amount") Long amount);
 }
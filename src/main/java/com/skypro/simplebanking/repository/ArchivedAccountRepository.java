@@ -0,0 +1,53 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.ArchivedAccount;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedAccountRepository extends JpaRepository<ArchivedAccount, Long> {
+  @Query(
+      "select a.accountCurrency as currency, sum(a.amount) as totalAmount, count(a) as accountCount"
+          + " from ArchivedAccount a group by a.accountCurrency")
+  List<CurrencyTotals> findCurrencyTotals();
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "with moved as ("
+              + " delete from accounts where id in ("
+              + "  select a.id from accounts a"
+              + "  join account_movements m on m.account_id = a.id and m.type = :openingType"
+              + "  where m.created_at < :cutoff and not exists ("
+              + "   select 1 from account_movements o"
+              + "   where o.account_id = a.id and o.type <> :openingType)"
+              + "  limit :batchSize for update of a skip locked)"
+              + " returning id, account_currency, amount, user_id)"
+              + " insert into archived_accounts"
+              + " (id, account_currency, amount, user_id, archived_at)"
+              + " select id, account_currency, amount, user_id, :archivedAt from moved")
+  int archiveDormantAccounts(
+      @Param("openingType") int openingType,
+      @Param("cutoff") Instant cutoff,
+      @Param("batchSize") int batchSize,
+      @Param("archivedAt") Instant archivedAt);
+
+  @Modifying
+  @Query(
+      nativeQuery = true,
+      value =
+          "with restored as ("
+              + " delete from archived_accounts where id in (:accountIds) and user_id = :userId"
+              + " returning id, account_currency, amount, user_id)"
+              + " insert into accounts (id, account_currency, amount, user_id)"
+              + " select id, account_currency, amount, user_id from restored")
+  int restore(
+      @Param("userId") Long userId, @Param("accountIds") Collection<Long> accountIds);
+}
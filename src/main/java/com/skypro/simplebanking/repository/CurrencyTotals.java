@@ -0,0 +1,11 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+
+public interface CurrencyTotals {
+  AccountCurrency getCurrency();
+
+  Long getTotalAmount();
+
+  Long getAccountCount();
+}
@@ -0,0 +1,23 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.ExchangeRate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ExchangeRateRepository extends JpaRepository<ExchangeRate, Long> {
+  @Modifying
+  @Query(nativeQuery = true, value = "lock table exchange_rates in exclusive mode")
+  void lockForAppend();
+
+  @Query("select max(r.id) from ExchangeRate r")
+  Long findLatestVersion();
+
+  @Query(
+      "select r from ExchangeRate r where r.id in"
+          + " (select max(l.id) from ExchangeRate l group by l.baseCurrency, l.quoteCurrency)")
+  List<ExchangeRate> findLatestRates();
+}
@@ -0,0 +1,17 @@
+package com.skypro.simplebanking.repository;
+
+/** Balance credited back to one account for the holds expired in a single sweep batch. */
+public interface ExpiredHoldCredit {
+  Long getAccountId();
+
+  Long getUserId();
+
+  Long getBalance();
+
+  /** Ordinal of the account's {@link com.skypro.simplebanking.entity.AccountCurrency}. */
+  Integer getCurrency();
+
+  Long getReleased();
+
+  Long getHolds();
+}
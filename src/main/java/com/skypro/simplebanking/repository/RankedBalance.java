@@ -0,0 +1,10 @@
+package com.skypro.simplebanking.repository;
+
+public interface RankedBalance {
+  Long getId();
+
+  Long getAmount();
+
+  /** Ordinal of the account's {@link com.skypro.simplebanking.entity.AccountCurrency}. */
+  Integer getCurrency();
+}
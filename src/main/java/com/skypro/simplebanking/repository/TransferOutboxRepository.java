@@ -0,0 +1,27 @@
+package com.skypro.simplebanking.repository;
+
+import com.skypro.simplebanking.entity.TransferOutbox;
+import com.skypro.simplebanking.entity.TransferStatus;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransferOutboxRepository extends JpaRepository<TransferOutbox, Long> {
+  List<TransferOutbox> findByStatusAndCreatedAtBefore(
+      TransferStatus status, Instant createdBefore, Pageable pageable);
+
+  @Modifying
+  @Query(
+      "update TransferOutbox t set t.status = :status"
+          + " where t.id = :id and t.status = :expectedStatus")
+  int updateStatus(
+      @Param("id") Long id,
+      @Param("expectedStatus") TransferStatus expectedStatus,
+      @Param("status") TransferStatus status);
+}
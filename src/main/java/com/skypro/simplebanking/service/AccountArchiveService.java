@@ -0,0 +1,104 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.ArchiveReportDTO;
+import com.skypro.simplebanking.entity.MovementType;
+import com.skypro.simplebanking.repository.ArchivedAccountRepository;
+import com.skypro.simplebanking.sharding.ShardContext;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Moves accounts that never moved money after opening into archived_accounts, keeping the hot
+ * accounts table and its indexes small. Ids are kept, so {@link #restore} can put an account back
+ * as soon as it is used again. Each batch is a single delete-returning-insert statement that skips
+ * rows locked by concurrent writers.
+ */
+@Service
+public class AccountArchiveService {
+  private static final String LIVE_ROWS =
+      "select coalesce(max(n_live_tup), 0) from pg_stat_user_tables where relname = 'accounts'";
+  private static final String DEAD_ROWS =
+      "select coalesce(max(n_dead_tup), 0) from pg_stat_user_tables where relname = 'accounts'";
+
+  private final ArchivedAccountRepository archivedAccountRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final ShardTemplate shardTemplate;
+  private final Duration inactivity;
+  private final int batchSize;
+
+  public AccountArchiveService(
+      ArchivedAccountRepository archivedAccountRepository,
+      JdbcTemplate jdbcTemplate,
+      ShardTemplate shardTemplate,
+      @Value("${app.archive.inactive-days}") long inactiveDays,
+      @Value("${app.archive.batch-size}") int batchSize) {
+    this.archivedAccountRepository = archivedAccountRepository;
+    this.jdbcTemplate = jdbcTemplate;
+    this.shardTemplate = shardTemplate;
+    this.inactivity = Duration.ofDays(inactiveDays);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Runs in the caller's transaction, which must be writable, so the restored row is visible to
+   * the caller's next read without a second connection.
+   */
+  @Transactional
+  public boolean restore(long userId, long accountId) {
+    return archivedAccountRepository.restore(userId, List.of(accountId)) > 0;
+  }
+
+  /** Restores whichever of the given accounts are archived, in one statement. */
+  @Transactional
+  public int restore(long userId, Collection<Long> accountIds) {
+    return archivedAccountRepository.restore(userId, accountIds);
+  }
+
+  @Scheduled(cron = "${app.archive.cron}")
+  public void archiveOnSchedule() {
+    archiveDormantAccounts();
+  }
+
+  public ArchiveReportDTO archiveDormantAccounts() {
+    Instant now = Instant.now();
+    Instant cutoff = now.minus(inactivity);
+    long liveRowsBefore = sumOverShards(LIVE_ROWS);
+    long archived = 0;
+    for (int shard = 0; shard < ShardContext.getShardCount(); shard++) {
+      int targetShard = shard;
+      int moved;
+      do {
+        moved =
+            shardTemplate.inShard(
+                targetShard,
+                () ->
+                    archivedAccountRepository.archiveDormantAccounts(
+                        MovementType.OPENING.ordinal(), cutoff, batchSize, now));
+        archived += moved;
+      } while (moved == batchSize);
+    }
+    return new ArchiveReportDTO(
+        archived,
+        liveRowsBefore,
+        sumOverShards(LIVE_ROWS),
+        sumOverShards(DEAD_ROWS),
+        sumOverShards("select pg_table_size('accounts')"),
+        sumOverShards("select pg_indexes_size('accounts')"));
+  }
+
+  private long sumOverShards(String sizeQuery) {
+    return shardTemplate.onAllShardsReadOnly(
+            () -> List.of(jdbcTemplate.queryForObject(sizeQuery, Long.class)))
+        .stream()
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+}
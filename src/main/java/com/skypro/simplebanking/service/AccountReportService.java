@@ -0,0 +1,183 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.CurrencyReportDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.event.AccountChangedEvent;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.ArchivedAccountRepository;
+import com.skypro.simplebanking.repository.CurrencyTotals;
+import com.skypro.simplebanking.repository.RankedBalance;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps per-currency totals, account counts and the largest balances up to date from committed
+ * account changes, so building the admin report never scans the accounts table.
+ *
+ * <p>Only the {@code top-capacity} largest balances per currency are tracked, and the list is
+ * rebuilt from the same periodic scan that recomputes the totals. There is deliberately no index
+ * on balances: it would block HOT updates on every money movement. Between scans an account that
+ * drops out of the tracked set can only be replaced by one that rises above {@code floor}, so the
+ * top list may be short or miss a lower balance until the next reconciliation. Changes committing
+ * while a reconciliation query runs may be counted twice or missed, which the next pass corrects.
+ *
+ * <p>The aggregates live in this JVM and only see changes committed through this node. With
+ * several nodes the report is per node and eventually consistent: changes made on other nodes
+ * show up after the next reconciliation, at most {@code app.report.reconcile-interval-ms} later.
+ */
+@Service
+public class AccountReportService {
+  private static final Comparator<AccountDTO> BALANCE_ORDER =
+      Comparator.comparingLong(AccountDTO::getAmount)
+          .reversed()
+          .thenComparingLong(AccountDTO::getId);
+
+  private final AccountRepository accountRepository;
+  private final ArchivedAccountRepository archivedAccountRepository;
+  private final ShardTemplate shardTemplate;
+  private final int maxTop;
+  private final int topCapacity;
+  private final Map<AccountCurrency, CurrencyAggregate> aggregates =
+      new EnumMap<>(AccountCurrency.class);
+
+  public AccountReportService(
+      AccountRepository accountRepository,
+      ArchivedAccountRepository archivedAccountRepository,
+      ShardTemplate shardTemplate,
+      @Value("${app.report.max-top}") int maxTop,
+      @Value("${app.report.top-capacity}") int topCapacity) {
+    this.accountRepository = accountRepository;
+    this.archivedAccountRepository = archivedAccountRepository;
+    this.shardTemplate = shardTemplate;
+    this.maxTop = maxTop;
+    this.topCapacity = Math.max(topCapacity, maxTop);
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      aggregates.put(currency, new CurrencyAggregate());
+    }
+  }
+
+  public List<CurrencyReportDTO> getReport(int top) {
+    int limit = Math.max(0, Math.min(top, maxTop));
+    List<CurrencyReportDTO> report = new ArrayList<>(aggregates.size());
+    aggregates.forEach(
+        (currency, aggregate) ->
+            report.add(
+                new CurrencyReportDTO(
+                    currency,
+                    aggregate.totalAmount.get(),
+                    aggregate.accountCount.get(),
+                    aggregate.top(limit))));
+    return report;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAccountChanged(AccountChangedEvent event) {
+    AccountDTO account = event.getAccount();
+    CurrencyAggregate aggregate = aggregates.get(account.getCurrency());
+    aggregate.totalAmount.addAndGet(event.getAmountDelta());
+    if (event.isOpened()) {
+      aggregate.accountCount.incrementAndGet();
+    }
+    aggregate.update(account);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${app.report.reconcile-interval-ms}",
+      initialDelayString = "${app.report.reconcile-interval-ms}")
+  public void reconcile() {
+    Map<AccountCurrency, Long> totalAmounts = new EnumMap<>(AccountCurrency.class);
+    Map<AccountCurrency, Long> accountCounts = new EnumMap<>(AccountCurrency.class);
+    List<CurrencyTotals> shardTotals =
+        new ArrayList<>(shardTemplate.onAllShardsReadOnly(accountRepository::findCurrencyTotals));
+    shardTotals.addAll(
+        shardTemplate.onAllShardsReadOnly(archivedAccountRepository::findCurrencyTotals));
+    for (CurrencyTotals currencyTotals : shardTotals) {
+      AccountCurrency currency = currencyTotals.getCurrency();
+      totalAmounts.merge(currency, currencyTotals.getTotalAmount(), Long::sum);
+      accountCounts.merge(currency, currencyTotals.getAccountCount(), Long::sum);
+    }
+    Map<AccountCurrency, List<AccountDTO>> topBalances = new EnumMap<>(AccountCurrency.class);
+    AccountCurrency[] currencies = AccountCurrency.values();
+    for (RankedBalance balance :
+        shardTemplate.onAllShardsReadOnly(
+            () -> accountRepository.findTopBalancesPerCurrency(topCapacity))) {
+      AccountCurrency currency = currencies[balance.getCurrency()];
+      topBalances
+          .computeIfAbsent(currency, key -> new ArrayList<>())
+          .add(new AccountDTO(balance.getId(), balance.getAmount(), currency));
+    }
+    aggregates.forEach(
+        (currency, aggregate) -> {
+          aggregate.totalAmount.set(totalAmounts.getOrDefault(currency, 0L));
+          aggregate.accountCount.set(accountCounts.getOrDefault(currency, 0L));
+          List<AccountDTO> top = topBalances.getOrDefault(currency, new ArrayList<>());
+          top.sort(BALANCE_ORDER);
+          aggregate.replaceTop(top.subList(0, Math.min(topCapacity, top.size())));
+        });
+  }
+
+  private class CurrencyAggregate {
+    private final AtomicLong totalAmount = new AtomicLong();
+    private final AtomicLong accountCount = new AtomicLong();
+    private final TreeSet<AccountDTO> topBalances = new TreeSet<>(BALANCE_ORDER);
+    private final Map<Long, AccountDTO> trackedAccounts = new HashMap<>();
+    private long floor = Long.MIN_VALUE;
+
+    private synchronized void update(AccountDTO account) {
+      AccountDTO previous = trackedAccounts.remove(account.getId());
+      if (previous != null) {
+        topBalances.remove(previous);
+      }
+      if (previous == null && account.getAmount() <= floor) {
+        return;
+      }
+      trackedAccounts.put(account.getId(), account);
+      topBalances.add(account);
+      while (topBalances.size() > topCapacity) {
+        AccountDTO evicted = topBalances.pollLast();
+        trackedAccounts.remove(evicted.getId());
+        floor = Math.max(floor, evicted.getAmount());
+      }
+    }
+
+    private synchronized List<AccountDTO> top(int limit) {
+      List<AccountDTO> result = new ArrayList<>(limit);
+      for (AccountDTO account : topBalances) {
+        if (result.size() == limit) {
+          break;
+        }
+        result.add(account);
+      }
+      return result;
+    }
+
+    private synchronized void replaceTop(List<AccountDTO> accounts) {
+      topBalances.clear();
+      trackedAccounts.clear();
+      for (AccountDTO account : accounts) {
+        topBalances.add(account);
+        trackedAccounts.put(account.getId(), account);
+      }
+      floor =
+          accounts.size() < topCapacity
+              ? Long.MIN_VALUE
+              : accounts.get(accounts.size() - 1).getAmount();
+    }
+  }
+}
@@ -1,15 +1,37 @@
 package com.skypro.simplebanking.service;
 
 import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.HoldDTO;
 import com.skypro.simplebanking.entity.Account;
 import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.AccountHold;
+import com.skypro.simplebanking.entity.AccountMovement;
+import com.skypro.simplebanking.entity.HoldStatus;
+import com.skypro.simplebanking.entity.MovementType;
 import com.skypro.simplebanking.entity.User;
+import com.skypro.simplebanking.event.AccountChangedEvent;
 import com.skypro.simplebanking.exception.AccountNotFoundException;
+import com.skypro.simplebanking.exception.BatchTooLargeException;
+import com.skypro.simplebanking.exception.HoldNotActiveException;
+import com.skypro.simplebanking.exception.HoldNotFoundException;
 import com.skypro.simplebanking.exception.InsufficientFundsException;
 import com.skypro.simplebanking.exception.InvalidAmountException;
-import com.skypro.simplebanking.exception.WrongCurrencyException;
+import com.skypro.simplebanking.repository.AccountHoldRepository;
+import com.skypro.simplebanking.repository.AccountMovementRepository;
 import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.ExpiredHoldCredit;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,9 +39,28 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class AccountService {
   private final AccountRepository accountRepository;
+  private final AccountMovementRepository accountMovementRepository;
+  private final AccountHoldRepository accountHoldRepository;
+  private final AccountArchiveService accountArchiveService;
+  private final ApplicationEventPublisher eventPublisher;
+  private final long holdTtlMillis;
+  private final int maxBatchBalances;
 
-  public AccountService(AccountRepository accountRepository) {
+  public AccountService(
+      AccountRepository accountRepository,
+      AccountMovementRepository accountMovementRepository,
+      AccountHoldRepository accountHoldRepository,
+      AccountArchiveService accountArchiveService,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${app.hold.ttl-ms}") long holdTtlMillis,
+      @Value("${app.account.max-batch-balances}") int maxBatchBalances) {
     this.accountRepository = accountRepository;
+    this.accountMovementRepository = accountMovementRepository;
+    this.accountHoldRepository = accountHoldRepository;
+    this.accountArchiveService = accountArchiveService;
+    this.eventPublisher = eventPublisher;
+    this.holdTtlMillis = holdTtlMillis;
+    this.maxBatchBalances = maxBatchBalances;
   }
 
   @Transactional(propagation = Propagation.MANDATORY)
@@ -32,55 +73,225 @@ public class AccountService {
       account.setAmount(1L);
       user.getAccounts().add(account);
       accountRepository.save(account);
+      accountMovementRepository.save(
+          AccountMovement.of(account, MovementType.OPENING, account.getAmount()));
+      eventPublisher.publishEvent(
+          new AccountChangedEvent(
+              user.getId(), AccountDTO.from(account), account.getAmount(), true));
     }
   }
 
-  @Transactional(readOnly = true)
+  /**
+   * Not transactional itself: the lookup uses the repository's read-only transaction, and only a
+   * miss opens a writable one to restore the account from the archive.
+   */
   public AccountDTO getAccount(long userId, Long accountId) {
-    return accountRepository
-        .getAccountByUser_IdAndId(userId, accountId)
+    return findAccount(userId, accountId)
         .map(AccountDTO::from)
         .orElseThrow(AccountNotFoundException::new);
   }
 
-  @Transactional
-  public void validateCurrency(long sourceAccount, long destinationAccount) {
-    Account acc1 =
-        accountRepository.findById(sourceAccount).orElseThrow(AccountNotFoundException::new);
-    Account acc2 =
-        accountRepository.findById(destinationAccount).orElseThrow(AccountNotFoundException::new);
-    if (!acc1.getAccountCurrency().equals(acc2.getAccountCurrency())){
-      throw new WrongCurrencyException();
+  public List<AccountDTO> getAccounts(long userId, Collection<Long> accountIds) {
+    Set<Long> requestedIds = new LinkedHashSet<>(accountIds);
+    if (requestedIds.size() > maxBatchBalances) {
+      throw new BatchTooLargeException("Cannot read more than " + maxBatchBalances + " accounts");
+    }
+    if (requestedIds.isEmpty()) {
+      return List.of();
+    }
+    Map<Long, AccountDTO> accounts = findAccountsByUser(userId, requestedIds);
+    if (accounts.size() != requestedIds.size()) {
+      Set<Long> missingIds = new LinkedHashSet<>(requestedIds);
+      missingIds.removeAll(accounts.keySet());
+      if (accountArchiveService.restore(userId, missingIds) > 0) {
+        accounts = findAccountsByUser(userId, requestedIds);
+      }
+    }
+    if (accounts.size() != requestedIds.size()) {
+      throw new AccountNotFoundException();
     }
+    return requestedIds.stream().map(accounts::get).collect(Collectors.toList());
   }
 
   @Transactional
   public AccountDTO depositToAccount(long userId, Long accountId, long amount) {
+    return depositToAccount(userId, accountId, amount, null);
+  }
+
+  @Transactional
+  public AccountDTO depositToAccount(long userId, Long accountId, long amount, Long rateVersion) {
     if (amount < 0) {
       throw new InvalidAmountException();
     }
     Account account =
-        accountRepository
-            .getAccountByUser_IdAndId(userId, accountId)
-            .orElseThrow(AccountNotFoundException::new);
+        lockAccount(userId, accountId).orElseThrow(AccountNotFoundException::new);
     account.setAmount(account.getAmount() + amount);
-    return AccountDTO.from(account);
+    accountMovementRepository.save(
+        AccountMovement.of(account, MovementType.DEPOSIT, amount, rateVersion));
+    return publishChange(userId, account, amount);
   }
 
   @Transactional
   public AccountDTO withdrawFromAccount(long id, Long accountId, long amount) {
+    return withdrawFromAccount(id, accountId, amount, null);
+  }
+
+  @Transactional
+  public AccountDTO withdrawFromAccount(long id, Long accountId, long amount, Long rateVersion) {
     if (amount < 0) {
       throw new InvalidAmountException();
     }
     Account account =
-        accountRepository
-            .getAccountByUser_IdAndId(id, accountId)
-            .orElseThrow(AccountNotFoundException::new);
+        lockAccount(id, accountId).orElseThrow(AccountNotFoundException::new);
     if (account.getAmount() < amount) {
       throw new InsufficientFundsException(
           "Cannot withdraw " + amount + " " + account.getAccountCurrency().name());
     }
     account.setAmount(account.getAmount() - amount);
-    return AccountDTO.from(account);
+    accountMovementRepository.save(
+        AccountMovement.of(account, MovementType.WITHDRAWAL, -amount, rateVersion));
+    return publishChange(id, account, -amount);
+  }
+
+  @Transactional
+  public HoldDTO holdFunds(long userId, Long accountId, long amount) {
+    if (amount < 0) {
+      throw new InvalidAmountException();
+    }
+    int reserved = accountRepository.reserveFunds(userId, accountId, amount);
+    if (reserved == 0 && accountArchiveService.restore(userId, accountId)) {
+      reserved = accountRepository.reserveFunds(userId, accountId, amount);
+    }
+    Account account =
+        findAccount(userId, accountId).orElseThrow(AccountNotFoundException::new);
+    if (reserved == 0) {
+      throw new InsufficientFundsException(
+          "Cannot hold " + amount + " " + account.getAccountCurrency().name());
+    }
+    AccountHold hold = new AccountHold();
+    hold.setUserId(userId);
+    hold.setAccountId(accountId);
+    hold.setAmount(amount);
+    hold.setStatus(HoldStatus.ACTIVE);
+    hold.setCreatedAt(Instant.now());
+    hold.setExpiresAt(hold.getCreatedAt().plusMillis(holdTtlMillis));
+    accountHoldRepository.save(hold);
+    accountMovementRepository.save(AccountMovement.of(account, MovementType.HOLD, -amount));
+    publishChange(userId, account, -amount);
+    return HoldDTO.from(hold);
+  }
+
+  @Transactional
+  public HoldDTO captureHold(long userId, Long holdId, long amount) {
+    if (amount < 0) {
+      throw new InvalidAmountException();
+    }
+    AccountHold hold =
+        accountHoldRepository
+            .findByIdAndUserId(holdId, userId)
+            .orElseThrow(HoldNotFoundException::new);
+    if (amount > hold.getAmount()) {
+      throw new InvalidAmountException();
+    }
+    if (accountHoldRepository.finishUnexpired(holdId, HoldStatus.CAPTURED, amount, Instant.now())
+        == 0) {
+      throw new HoldNotActiveException();
+    }
+    returnHeldFunds(hold, hold.getAmount() - amount);
+    hold.setStatus(HoldStatus.CAPTURED);
+    hold.setCapturedAmount(amount);
+    return HoldDTO.from(hold);
+  }
+
+  @Transactional
+  public HoldDTO releaseHold(long userId, Long holdId) {
+    AccountHold hold =
+        accountHoldRepository
+            .findByIdAndUserId(holdId, userId)
+            .orElseThrow(HoldNotFoundException::new);
+    if (accountHoldRepository.finishUnexpired(holdId, HoldStatus.RELEASED, null, Instant.now())
+        == 0) {
+      throw new HoldNotActiveException();
+    }
+    returnHeldFunds(hold, hold.getAmount());
+    hold.setStatus(HoldStatus.RELEASED);
+    return HoldDTO.from(hold);
+  }
+
+  /**
+   * Expires one batch of overdue holds on the current shard: the status change, the balance
+   * credit and the movement inserts run as two round trips regardless of the batch size. Each
+   * credited account gets a single RELEASE movement for the sum of its expired holds. Returns the
+   * number of holds expired.
+   */
+  @Transactional
+  public int expireHolds(Instant now, int limit) {
+    List<ExpiredHoldCredit> credits =
+        accountHoldRepository.expireAndCredit(
+            HoldStatus.ACTIVE.ordinal(), HoldStatus.EXPIRED.ordinal(), now, limit);
+    List<AccountMovement> movements = new ArrayList<>(credits.size());
+    int expired = 0;
+    for (ExpiredHoldCredit credit : credits) {
+      movements.add(
+          AccountMovement.of(
+              credit.getAccountId(),
+              credit.getBalance(),
+              MovementType.RELEASE,
+              credit.getReleased()));
+      expired += credit.getHolds();
+    }
+    accountMovementRepository.saveAll(movements);
+    for (ExpiredHoldCredit credit : credits) {
+      AccountDTO account =
+          new AccountDTO(
+              credit.getAccountId(),
+              credit.getBalance(),
+              AccountCurrency.values()[credit.getCurrency()]);
+      eventPublisher.publishEvent(
+          new AccountChangedEvent(credit.getUserId(), account, credit.getReleased(), false));
+    }
+    return expired;
+  }
+
+  private Optional<Account> findAccount(long userId, Long accountId) {
+    Optional<Account> account = accountRepository.getAccountByUser_IdAndId(userId, accountId);
+    if (account.isEmpty() && accountArchiveService.restore(userId, accountId)) {
+      return accountRepository.getAccountByUser_IdAndId(userId, accountId);
+    }
+    return account;
+  }
+
+  /**
+   * Reads the account with a row lock, so archival, which skips locked rows, cannot delete it
+   * between this read and the balance update.
+   */
+  private Optional<Account> lockAccount(long userId, Long accountId) {
+    Optional<Account> account = accountRepository.findForUpdate(userId, accountId);
+    if (account.isEmpty() && accountArchiveService.restore(userId, accountId)) {
+      return accountRepository.findForUpdate(userId, accountId);
+    }
+    return account;
+  }
+
+  private Map<Long, AccountDTO> findAccountsByUser(long userId, Set<Long> accountIds) {
+    return accountRepository.findAccountsByUser(userId, accountIds).stream()
+        .collect(Collectors.toMap(AccountDTO::getId, Function.identity()));
+  }
+
+  private void returnHeldFunds(AccountHold hold, long amount) {
+    if (amount == 0) {
+      return;
+    }
+    accountRepository.returnFunds(hold.getAccountId(), amount);
+    Account account =
+        accountRepository.findById(hold.getAccountId()).orElseThrow(AccountNotFoundException::new);
+    accountMovementRepository.save(AccountMovement.of(account, MovementType.RELEASE, amount));
+    publishChange(hold.getUserId(), account, amount);
+  }
+
+  private AccountDTO publishChange(long userId, Account account, long amountDelta) {
+    AccountDTO accountDTO = AccountDTO.from(account);
+    eventPublisher.publishEvent(new AccountChangedEvent(userId, accountDTO, amountDelta, false));
+    return accountDTO;
   }
 }
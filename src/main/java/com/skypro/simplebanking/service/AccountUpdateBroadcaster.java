@@ -0,0 +1,264 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.event.AccountChangedEvent;
+import com.skypro.simplebanking.exception.TooManySubscribersException;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans committed account changes out to Server-Sent Events subscribers.
+ *
+ * <p>Subscribers hold no thread while idle: each one only keeps its emitter and the latest
+ * pending {@link AccountDTO} per account. Updates arriving while a delivery is still pending are
+ * coalesced, and deliveries run on a small bounded dispatcher pool, so a slow consumer only ever
+ * sees the most recent balance instead of a growing backlog. At most one delivery per subscriber
+ * is queued or running at a time, which keeps updates for an account in order.
+ *
+ * <p>Each write runs on a separate writer pool and the dispatcher waits for it at most {@code
+ * write-timeout-ms}. A subscriber whose write does not finish in time is dropped without touching
+ * its emitter again, so a stalled socket only ties up one writer thread until the container's
+ * connection timeout fails the write, never a dispatcher thread.
+ *
+ * <p>The feed's own sweeper thread re-dispatches updates left behind when the dispatcher was
+ * saturated and sends a heartbeat comment to idle subscribers so dead connections are noticed. It
+ * only queues work and never calls an emitter, so it cannot stall.
+ */
+@Component
+public class AccountUpdateBroadcaster {
+  private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final AtomicInteger subscriberCount = new AtomicInteger();
+  private final int maxSubscribers;
+  private final long timeoutMillis;
+  private final long heartbeatIntervalMillis;
+  private final long writeTimeoutMillis;
+  private final ThreadPoolExecutor dispatcher;
+  private final ThreadPoolExecutor writer;
+  private final ScheduledExecutorService sweeper;
+
+  public AccountUpdateBroadcaster(
+      @Value("${app.account-feed.max-subscribers}") int maxSubscribers,
+      @Value("${app.account-feed.timeout-ms}") long timeoutMillis,
+      @Value("${app.account-feed.heartbeat-interval-ms}") long heartbeatIntervalMillis,
+      @Value("${app.account-feed.write-timeout-ms}") long writeTimeoutMillis,
+      @Value("${app.account-feed.dispatch-threads}") int dispatchThreads,
+      @Value("${app.account-feed.dispatch-queue-capacity}") int dispatchQueueCapacity,
+      @Value("${app.account-feed.max-writer-threads}") int maxWriterThreads) {
+    this.maxSubscribers = maxSubscribers;
+    this.timeoutMillis = timeoutMillis;
+    this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+    this.writeTimeoutMillis = writeTimeoutMillis;
+    this.dispatcher =
+        new ThreadPoolExecutor(
+            dispatchThreads,
+            dispatchThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(dispatchQueueCapacity),
+            new CustomizableThreadFactory("account-feed-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.writer =
+        new ThreadPoolExecutor(
+            dispatchThreads,
+            maxWriterThreads,
+            60L,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            new CustomizableThreadFactory("account-feed-writer-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    this.sweeper =
+        Executors.newSingleThreadScheduledExecutor(
+            new CustomizableThreadFactory("account-feed-sweeper-"));
+    this.sweeper.scheduleWithFixedDelay(
+        this::sweep, heartbeatIntervalMillis, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  public SseEmitter subscribe(long userId) {
+    if (subscriberCount.incrementAndGet() > maxSubscribers) {
+      subscriberCount.decrementAndGet();
+      throw new TooManySubscribersException();
+    }
+    SseEmitter emitter = new SseEmitter(timeoutMillis);
+    Subscriber subscriber = new Subscriber(userId, emitter);
+    subscribers.compute(
+        userId,
+        (id, current) -> {
+          Set<Subscriber> result = current == null ? ConcurrentHashMap.newKeySet() : current;
+          result.add(subscriber);
+          return result;
+        });
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(emitter::complete);
+    emitter.onError(error -> unsubscribe(subscriber));
+    return emitter;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onAccountChanged(AccountChangedEvent event) {
+    Set<Subscriber> userSubscribers =
+        subscribers.getOrDefault(event.getUserId(), Collections.emptySet());
+    for (Subscriber subscriber : userSubscribers) {
+      subscriber.pending.put(event.getAccount().getId(), event.getAccount());
+      schedule(subscriber);
+    }
+  }
+
+  private void sweep() {
+    long now = System.currentTimeMillis();
+    for (Set<Subscriber> userSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : userSubscribers) {
+        if (now - subscriber.lastWriteAt >= heartbeatIntervalMillis) {
+          subscriber.heartbeatDue = true;
+        }
+        if (subscriber.heartbeatDue || !subscriber.pending.isEmpty()) {
+          schedule(subscriber);
+        }
+      }
+    }
+  }
+
+  public int getSubscriberCount() {
+    return subscriberCount.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    sweeper.shutdownNow();
+    dispatcher.shutdownNow();
+    writer.shutdownNow();
+    subscribers
+        .values()
+        .forEach(userSubscribers -> userSubscribers.forEach(s -> s.emitter.complete()));
+  }
+
+  private void schedule(Subscriber subscriber) {
+    if (subscriber.closed.get() || !subscriber.scheduled.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      dispatcher.execute(() -> deliver(subscriber));
+    } catch (RejectedExecutionException e) {
+      // Dispatcher is saturated: keep the coalesced update for the next change or sweep.
+      subscriber.scheduled.set(false);
+    }
+  }
+
+  private void deliver(Subscriber subscriber) {
+    try {
+      boolean sent = false;
+      for (Long accountId : subscriber.pending.keySet()) {
+        AccountDTO account = subscriber.pending.remove(accountId);
+        if (account == null) {
+          continue;
+        }
+        try {
+          write(
+              subscriber,
+              SseEmitter.event().name("account").data(account, MediaType.APPLICATION_JSON));
+        } catch (RejectedExecutionException e) {
+          // Every writer is busy: keep the update for the next change or sweep.
+          subscriber.pending.putIfAbsent(accountId, account);
+          subscriber.scheduled.set(false);
+          return;
+        }
+        sent = true;
+      }
+      if (!sent && subscriber.heartbeatDue) {
+        write(subscriber, SseEmitter.event().comment("heartbeat"));
+        sent = true;
+      }
+      subscriber.heartbeatDue = false;
+      if (sent) {
+        subscriber.lastWriteAt = System.currentTimeMillis();
+      }
+    } catch (RejectedExecutionException e) {
+      subscriber.scheduled.set(false);
+      return;
+    } catch (TimeoutException e) {
+      // The write still holds the emitter; leave it to fail on the container's timeout.
+      unsubscribe(subscriber);
+      return;
+    } catch (IOException e) {
+      subscriber.emitter.completeWithError(e);
+      unsubscribe(subscriber);
+      return;
+    }
+    subscriber.scheduled.set(false);
+    if (!subscriber.pending.isEmpty()) {
+      schedule(subscriber);
+    }
+  }
+
+  private void write(Subscriber subscriber, SseEmitter.SseEventBuilder event)
+      throws IOException, TimeoutException {
+    Future<?> write =
+        writer.submit(
+            () -> {
+              subscriber.emitter.send(event);
+              return null;
+            });
+    try {
+      write.get(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      write.cancel(true);
+      throw e;
+    } catch (ExecutionException e) {
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException(e);
+    }
+  }
+
+  private void unsubscribe(Subscriber subscriber) {
+    if (!subscriber.closed.compareAndSet(false, true)) {
+      return;
+    }
+    subscriberCount.decrementAndGet();
+    subscribers.computeIfPresent(
+        subscriber.userId,
+        (id, current) -> {
+          current.remove(subscriber);
+          return current.isEmpty() ? null : current;
+        });
+  }
+
+  private static class Subscriber {
+    private final long userId;
+    private final SseEmitter emitter;
+    private final Map<Long, AccountDTO> pending = new ConcurrentHashMap<>(4);
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile long lastWriteAt = System.currentTimeMillis();
+    private volatile boolean heartbeatDue;
+
+    private Subscriber(long userId, SseEmitter emitter) {
+      this.userId = userId;
+      this.emitter = emitter;
+    }
+  }
+}
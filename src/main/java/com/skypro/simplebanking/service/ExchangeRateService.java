@@ -0,0 +1,97 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.ExchangeRate;
+import com.skypro.simplebanking.exception.InvalidExchangeRateException;
+import com.skypro.simplebanking.fx.ExchangeRateSnapshot;
+import com.skypro.simplebanking.repository.ExchangeRateRepository;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Publishes exchange rates to the transfer path. Transfers only read the current snapshot
+ * reference; loading happens on the scheduler and replaces the snapshot with a single atomic swap,
+ * never going back to an older version. Rates live on the default shard.
+ */
+@Service
+public class ExchangeRateService {
+  private static final int RATES_SHARD = 0;
+  private static final int RATE_PRECISION = 19;
+  private static final int RATE_SCALE = 8;
+
+  private final ExchangeRateRepository exchangeRateRepository;
+  private final ShardTemplate shardTemplate;
+  private final AtomicReference<ExchangeRateSnapshot> snapshot =
+      new AtomicReference<>(ExchangeRateSnapshot.empty());
+
+  public ExchangeRateService(
+      ExchangeRateRepository exchangeRateRepository, ShardTemplate shardTemplate) {
+    this.exchangeRateRepository = exchangeRateRepository;
+    this.shardTemplate = shardTemplate;
+  }
+
+  public ExchangeRateSnapshot getSnapshot() {
+    return snapshot.get();
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      fixedDelayString = "${app.fx.refresh-interval-ms}",
+      initialDelayString = "${app.fx.refresh-interval-ms}")
+  public void refresh() {
+    Long latestVersion =
+        shardTemplate.inShardReadOnly(RATES_SHARD, exchangeRateRepository::findLatestVersion);
+    if (latestVersion == null || latestVersion <= snapshot.get().getVersion()) {
+      return;
+    }
+    ExchangeRateSnapshot loaded =
+        ExchangeRateSnapshot.of(
+            shardTemplate.inShardReadOnly(RATES_SHARD, exchangeRateRepository::findLatestRates));
+    snapshot.accumulateAndGet(
+        loaded,
+        (current, candidate) ->
+            candidate.getVersion() > current.getVersion() ? candidate : current);
+  }
+
+  public ExchangeRateSnapshot addRate(
+      AccountCurrency baseCurrency, AccountCurrency quoteCurrency, BigDecimal rate) {
+    if (baseCurrency == null
+        || quoteCurrency == null
+        || baseCurrency == quoteCurrency
+        || rate == null
+        || rate.signum() <= 0
+        || !fitsRateColumn(rate)) {
+      throw new InvalidExchangeRateException();
+    }
+    ExchangeRate exchangeRate = new ExchangeRate();
+    exchangeRate.setBaseCurrency(baseCurrency);
+    exchangeRate.setQuoteCurrency(quoteCurrency);
+    exchangeRate.setRate(rate);
+    exchangeRate.setCreatedAt(Instant.now());
+    shardTemplate.inShard(
+        RATES_SHARD,
+        () -> {
+          // Serializes appends so a lower version can never commit after a higher one.
+          exchangeRateRepository.lockForAppend();
+          return exchangeRateRepository.save(exchangeRate);
+        });
+    refresh();
+    return snapshot.get();
+  }
+
+  /**
+   * The rate column is NUMERIC(19, 8): larger rates would fail the insert and extra decimals would
+   * be rounded silently, so both are rejected up front.
+   */
+  private static boolean fitsRateColumn(BigDecimal rate) {
+    BigDecimal normalized = rate.stripTrailingZeros();
+    int integerDigits = Math.max(normalized.precision() - normalized.scale(), 0);
+    return normalized.scale() <= RATE_SCALE && integerDigits <= RATE_PRECISION - RATE_SCALE;
+  }
+}
@@ -0,0 +1,46 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.sharding.ShardContext;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+@Component
+public class HoldExpirySweeper {
+  private final AccountService accountService;
+  private final ShardTemplate shardTemplate;
+  private final int batchSize;
+
+  public HoldExpirySweeper(
+      AccountService accountService,
+      ShardTemplate shardTemplate,
+      @Value("${app.hold.sweep-batch-size}") int batchSize) {
+    this.accountService = accountService;
+    this.shardTemplate = shardTemplate;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${app.hold.sweep-interval-ms}")
+  public void expireHolds() {
+    Instant now = Instant.now();
+    for (int shard = 0; shard < ShardContext.getShardCount(); shard++) {
+      expireHolds(shard, now);
+    }
+  }
+
+  private void expireHolds(int shard, Instant now) {
+    int expired;
+    do {
+      try {
+        expired = shardTemplate.inShard(shard, () -> accountService.expireHolds(now, batchSize));
+      } catch (DataAccessException | TransactionException e) {
+        // Stop this shard for now; the remaining holds are picked up on the next pass.
+        return;
+      }
+    } while (expired == batchSize);
+  }
+}
@@ -0,0 +1,112 @@
+package com.skypro.simplebanking.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.dto.StatementFormat;
+import com.skypro.simplebanking.entity.AccountMovement;
+import com.skypro.simplebanking.repository.AccountMovementRepository;
+import com.skypro.simplebanking.sharding.ShardContext;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class StatementService {
+  private final AccountMovementRepository accountMovementRepository;
+  private final EntityManager entityManager;
+  private final ObjectMapper objectMapper;
+  private final TransactionTemplate readOnlyTransaction;
+
+  public StatementService(
+      AccountMovementRepository accountMovementRepository,
+      EntityManager entityManager,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager) {
+    this.accountMovementRepository = accountMovementRepository;
+    this.entityManager = entityManager;
+    this.objectMapper = objectMapper;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+  }
+
+  /**
+   * Writes the movements of an account straight from a database cursor. Runs in its own read-only
+   * transaction because it is invoked from the async thread that serves the response body; rows
+   * are detached as soon as they are written so the persistence context stays empty.
+   */
+  public void writeStatement(
+      long accountId, Instant from, Instant to, StatementFormat format, OutputStream out) {
+    try (ShardContext.Scope scope = ShardContext.use(ShardContext.shardOfId(accountId))) {
+      readOnlyTransaction.executeWithoutResult(
+          status -> {
+            try (Stream<AccountMovement> movements =
+                accountMovementRepository.streamStatement(accountId, from, to)) {
+              if (format == StatementFormat.JSON) {
+                writeJson(movements.iterator(), out);
+              } else {
+                writeCsv(movements.iterator(), out);
+              }
+            } catch (IOException e) {
+              throw new UncheckedIOException(e);
+            }
+          });
+    }
+  }
+
+  private void writeCsv(Iterator<AccountMovement> movements, OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write("id,type,amount,balance,createdAt,rateVersion\n");
+    while (movements.hasNext()) {
+      AccountMovement movement = movements.next();
+      writer
+          .append(String.valueOf(movement.getId()))
+          .append(',')
+          .append(movement.getType().name())
+          .append(',')
+          .append(String.valueOf(movement.getAmount()))
+          .append(',')
+          .append(String.valueOf(movement.getBalance()))
+          .append(',')
+          .append(movement.getCreatedAt().toString())
+          .append(',')
+          .append(movement.getRateVersion() == null ? "" : movement.getRateVersion().toString())
+          .append('\n');
+      entityManager.detach(movement);
+    }
+    writer.flush();
+  }
+
+  private void writeJson(Iterator<AccountMovement> movements, OutputStream out)
+      throws IOException {
+    JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+    generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    generator.writeStartArray();
+    while (movements.hasNext()) {
+      AccountMovement movement = movements.next();
+      generator.writeStartObject();
+      generator.writeNumberField("id", movement.getId());
+      generator.writeStringField("type", movement.getType().name());
+      generator.writeNumberField("amount", movement.getAmount());
+      generator.writeNumberField("balance", movement.getBalance());
+      generator.writeStringField("createdAt", movement.getCreatedAt().toString());
+      if (movement.getRateVersion() != null) {
+        generator.writeNumberField("rateVersion", movement.getRateVersion());
+      }
+      generator.writeEndObject();
+      entityManager.detach(movement);
+    }
+    generator.writeEndArray();
+    generator.close();
+  }
+}
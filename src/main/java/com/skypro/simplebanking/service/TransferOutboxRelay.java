@@ -0,0 +1,58 @@
+package com.skypro.simplebanking.service;
+
+import com.skypro.simplebanking.entity.TransferOutbox;
+import com.skypro.simplebanking.entity.TransferStatus;
+import com.skypro.simplebanking.repository.TransferOutboxRepository;
+import com.skypro.simplebanking.sharding.ShardContext;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+@Component
+public class TransferOutboxRelay {
+  private final TransferService transferService;
+  private final TransferOutboxRepository transferOutboxRepository;
+  private final ShardTemplate shardTemplate;
+  private final long retryDelayMillis;
+  private final int batchSize;
+
+  public TransferOutboxRelay(
+      TransferService transferService,
+      TransferOutboxRepository transferOutboxRepository,
+      ShardTemplate shardTemplate,
+      @Value("${app.transfer.outbox-retry-delay-ms}") long retryDelayMillis,
+      @Value("${app.transfer.outbox-batch-size}") int batchSize) {
+    this.transferService = transferService;
+    this.transferOutboxRepository = transferOutboxRepository;
+    this.shardTemplate = shardTemplate;
+    this.retryDelayMillis = retryDelayMillis;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(fixedDelayString = "${app.transfer.outbox-relay-interval-ms}")
+  public void relayPendingTransfers() {
+    Instant createdBefore = Instant.now().minusMillis(retryDelayMillis);
+    for (int shard = 0; shard < ShardContext.getShardCount(); shard++) {
+      int sourceShard = shard;
+      List<TransferOutbox> pending =
+          shardTemplate.inShardReadOnly(
+              sourceShard,
+              () ->
+                  transferOutboxRepository.findByStatusAndCreatedAtBefore(
+                      TransferStatus.PENDING, createdBefore, PageRequest.of(0, batchSize)));
+      for (TransferOutbox transfer : pending) {
+        try {
+          transferService.deliver(sourceShard, transfer.getId());
+        } catch (DataAccessException | TransactionException e) {
+          // Left pending for the next pass.
+        }
+      }
+    }
+  }
+}
@@ -1,27 +1,182 @@
 package com.skypro.simplebanking.service;
 
 import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.TransferInbox;
+import com.skypro.simplebanking.entity.TransferOutbox;
+import com.skypro.simplebanking.entity.TransferStatus;
+import com.skypro.simplebanking.fx.CurrencyConversion;
+import com.skypro.simplebanking.repository.AccountRepository;
+import com.skypro.simplebanking.repository.TransferInboxRepository;
+import com.skypro.simplebanking.repository.TransferOutboxRepository;
+import com.skypro.simplebanking.sharding.ShardContext;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.transaction.TransactionException;
 
+/**
+ * Transfers convert between account currencies using the current {@link ExchangeRateService}
+ * snapshot; the applied rate version is recorded on both movements.
+ *
+ * <p>Transfers between users on the same shard run in one local transaction. Transfers across
+ * shards withdraw and record a transfer_outbox row in one transaction on the source shard, then
+ * deliver: the target shard records the transfer id in transfer_inbox together with the deposit
+ * (or a rejection if the account is gone), and the source shard marks the outbox row completed or
+ * refunds it. The inbox row makes delivery idempotent, so {@link TransferOutboxRelay} can safely
+ * retry transfers that were interrupted.
+ */
 @Service
 public class TransferService {
   private final AccountService accountService;
+  private final AccountRepository accountRepository;
+  private final TransferOutboxRepository transferOutboxRepository;
+  private final TransferInboxRepository transferInboxRepository;
+  private final ExchangeRateService exchangeRateService;
+  private final AccountArchiveService accountArchiveService;
+  private final ShardTemplate shardTemplate;
 
-  public TransferService(AccountService accountService) {
+  public TransferService(
+      AccountService accountService,
+      AccountRepository accountRepository,
+      TransferOutboxRepository transferOutboxRepository,
+      TransferInboxRepository transferInboxRepository,
+      ExchangeRateService exchangeRateService,
+      AccountArchiveService accountArchiveService,
+      ShardTemplate shardTemplate) {
     this.accountService = accountService;
+    this.accountRepository = accountRepository;
+    this.transferOutboxRepository = transferOutboxRepository;
+    this.transferInboxRepository = transferInboxRepository;
+    this.exchangeRateService = exchangeRateService;
+    this.accountArchiveService = accountArchiveService;
+    this.shardTemplate = shardTemplate;
   }
 
-  @Transactional
-  public void transfer(long id, @RequestBody TransferRequest transferRequest) {
-    accountService.validateCurrency(
-        transferRequest.getFromAccountId(), transferRequest.getToAccountId());
+  public void transfer(long id, TransferRequest transferRequest) {
+    int sourceShard = ShardContext.shardOfId(id);
+    int targetShard = ShardContext.shardOfId(transferRequest.getToUserId());
+    if (sourceShard == targetShard) {
+      shardTemplate.inShard(sourceShard, () -> transferWithinShard(id, transferRequest));
+      return;
+    }
+    // Writable, in case the target account has to be restored from the archive.
+    AccountCurrency targetCurrency =
+        shardTemplate.inShard(
+            targetShard,
+            () ->
+                accountService
+                    .getAccount(transferRequest.getToUserId(), transferRequest.getToAccountId())
+                    .getCurrency());
+    long transferId =
+        shardTemplate.inShard(sourceShard, () -> reserve(id, transferRequest, targetCurrency));
+    try {
+      deliver(sourceShard, transferId);
+    } catch (DataAccessException | TransactionException e) {
+      // The outbox row stays pending and is picked up by the relay.
+    }
+  }
+
+  public void deliver(int sourceShard, long transferId) {
+    TransferOutbox transfer =
+        shardTemplate.inShardReadOnly(
+            sourceShard, () -> transferOutboxRepository.findById(transferId).orElseThrow());
+    if (transfer.getStatus() != TransferStatus.PENDING) {
+      return;
+    }
+    boolean accepted =
+        shardTemplate.inShard(
+            ShardContext.shardOfId(transfer.getToUserId()), () -> receive(transfer));
+    shardTemplate.inShard(sourceShard, () -> settle(transfer, accepted));
+  }
+
+  private Void transferWithinShard(long id, TransferRequest transferRequest) {
+    AccountCurrency sourceCurrency =
+        accountService.getAccount(id, transferRequest.getFromAccountId()).getCurrency();
+    AccountCurrency targetCurrency =
+        accountService
+            .getAccount(transferRequest.getToUserId(), transferRequest.getToAccountId())
+            .getCurrency();
+    CurrencyConversion conversion =
+        exchangeRateService
+            .getSnapshot()
+            .convert(transferRequest.getAmount(), sourceCurrency, targetCurrency);
     accountService.withdrawFromAccount(
-        id, transferRequest.getFromAccountId(), transferRequest.getAmount());
+        id,
+        transferRequest.getFromAccountId(),
+        transferRequest.getAmount(),
+        conversion.getRateVersion());
     accountService.depositToAccount(
         transferRequest.getToUserId(),
         transferRequest.getToAccountId(),
-        transferRequest.getAmount());
+        conversion.getCreditAmount(),
+        conversion.getRateVersion());
+    return null;
+  }
+
+  private long reserve(
+      long id, TransferRequest transferRequest, AccountCurrency targetCurrency) {
+    AccountCurrency sourceCurrency =
+        accountService.getAccount(id, transferRequest.getFromAccountId()).getCurrency();
+    CurrencyConversion conversion =
+        exchangeRateService
+            .getSnapshot()
+            .convert(transferRequest.getAmount(), sourceCurrency, targetCurrency);
+    accountService.withdrawFromAccount(
+        id,
+        transferRequest.getFromAccountId(),
+        transferRequest.getAmount(),
+        conversion.getRateVersion());
+    TransferOutbox transfer = new TransferOutbox();
+    transfer.setFromUserId(id);
+    transfer.setFromAccountId(transferRequest.getFromAccountId());
+    transfer.setToUserId(transferRequest.getToUserId());
+    transfer.setToAccountId(transferRequest.getToAccountId());
+    transfer.setAmount(transferRequest.getAmount());
+    transfer.setCreditAmount(conversion.getCreditAmount());
+    transfer.setRateVersion(conversion.getRateVersion());
+    transfer.setStatus(TransferStatus.PENDING);
+    transfer.setCreatedAt(Instant.now());
+    return transferOutboxRepository.save(transfer).getId();
+  }
+
+  private boolean receive(TransferOutbox transfer) {
+    Optional<TransferInbox> existing = transferInboxRepository.findById(transfer.getId());
+    if (existing.isPresent()) {
+      return !existing.get().isRejected();
+    }
+    boolean accepted =
+        accountRepository
+                .getAccountByUser_IdAndId(transfer.getToUserId(), transfer.getToAccountId())
+                .isPresent()
+            || accountArchiveService.restore(transfer.getToUserId(), transfer.getToAccountId());
+    TransferInbox inbox = new TransferInbox();
+    inbox.setTransferId(transfer.getId());
+    inbox.setRejected(!accepted);
+    inbox.setReceivedAt(Instant.now());
+    transferInboxRepository.save(inbox);
+    if (accepted) {
+      accountService.depositToAccount(
+          transfer.getToUserId(),
+          transfer.getToAccountId(),
+          transfer.getCreditAmount(),
+          transfer.getRateVersion());
+    }
+    return accepted;
+  }
+
+  private Void settle(TransferOutbox transfer, boolean accepted) {
+    if (accepted) {
+      transferOutboxRepository.updateStatus(
+          transfer.getId(), TransferStatus.PENDING, TransferStatus.COMPLETED);
+    } else if (transferOutboxRepository.updateStatus(
+            transfer.getId(), TransferStatus.PENDING, TransferStatus.REFUNDED)
+        == 1) {
+      accountService.depositToAccount(
+          transfer.getFromUserId(), transfer.getFromAccountId(), transfer.getAmount());
+    }
+    return null;
   }
 }
@@ -6,6 +6,8 @@ import com.skypro.simplebanking.dto.UserDTO;
 import com.skypro.simplebanking.entity.User;
 import com.skypro.simplebanking.exception.UserAlreadyExistsException;
 import com.skypro.simplebanking.repository.UserRepository;
+import com.skypro.simplebanking.sharding.ShardContext;
+import com.skypro.simplebanking.sharding.ShardTemplate;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,44 +23,74 @@ public class UserService implements UserDetailsService {
   private final UserRepository userRepository;
   private final AccountService accountService;
   private final PasswordEncoder passwordEncoder;
+  private final ShardTemplate shardTemplate;
 
   public UserService(
       UserRepository userRepository,
       AccountService accountService,
-      PasswordEncoder passwordEncoder) {
+      PasswordEncoder passwordEncoder,
+      ShardTemplate shardTemplate) {
     this.userRepository = userRepository;
     this.accountService = accountService;
     this.passwordEncoder = passwordEncoder;
+    this.shardTemplate = shardTemplate;
   }
 
   @Override
-  @Transactional(readOnly = true)
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    return userRepository
-        .findByUsername(username)
+    return findByUsername(username)
         .map(BankingUserDetails::from)
         .orElseThrow(() -> new UsernameNotFoundException("User not found"));
   }
 
-  @Transactional
   public UserDTO createUser(String username, String password) {
-    Optional<User> existingUser = userRepository.findByUsername(username);
-    if (existingUser.isPresent()) {
+    if (findByUsername(username).isPresent()) {
       throw new UserAlreadyExistsException();
     }
-    User user = new User();
-    user.setUsername(username);
-    user.setPassword(passwordEncoder.encode(password));
-    userRepository.save(user);
-    accountService.createDefaultAccounts(user);
-    return UserDTO.from(user);
+    return shardTemplate.inBucket(
+        ShardContext.bucketOfUsername(username),
+        () -> {
+          Optional<User> existingUser = userRepository.findByUsername(username);
+          if (existingUser.isPresent()) {
+            throw new UserAlreadyExistsException();
+          }
+          User user = new User();
+          user.setUsername(username);
+          user.setPassword(passwordEncoder.encode(password));
+          userRepository.save(user);
+          accountService.createDefaultAccounts(user);
+          return UserDTO.from(user);
+        });
   }
   @Transactional(readOnly = true)
   public UserDTO getUser(long id) {
     return userRepository.findById(id).map(UserDTO::from).orElseThrow();
   }
-  @Transactional(readOnly = true)
+
+  /**
+   * Looks in the shard of the username's bucket first. Users created before ids carried their
+   * bucket may live under their id's bucket instead, so a miss falls back to every shard.
+   */
+  private Optional<User> findByUsername(String username) {
+    int usernameShard = ShardContext.shardOfUsername(username);
+    Optional<User> user =
+        shardTemplate.inShardReadOnly(
+            usernameShard, () -> userRepository.findByUsername(username));
+    if (user.isPresent() || ShardContext.getShardCount() == 1) {
+      return user;
+    }
+    return shardTemplate
+        .onAllShardsReadOnly(
+            () -> userRepository.findByUsername(username).stream().collect(Collectors.toList()))
+        .stream()
+        .findFirst();
+  }
+
   public List<ListUserDTO> listUsers() {
-    return userRepository.findAll().stream().map(ListUserDTO::from).collect(Collectors.toList());
+    return shardTemplate.onAllShardsReadOnly(
+        () ->
+            userRepository.findAll().stream()
+                .map(ListUserDTO::from)
+                .collect(Collectors.toList()));
   }
 }
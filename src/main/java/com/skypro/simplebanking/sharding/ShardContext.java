@@ -0,0 +1,128 @@
+package com.skypro.simplebanking.sharding;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Holds the shard the current thread talks to. Shard 0 is used when nothing is selected.
+ *
+ * <p>Users are spread over a fixed number of logical buckets, and each bucket is owned by one
+ * shard as recorded in {@link ShardLayout}. Ids are allocated as {@code sequenceValue *
+ * bucketCount + bucket}, so the owning bucket of a user or account can always be derived from its
+ * id. A new user is placed in the bucket of a hash of its username, and its accounts get the same
+ * bucket, which lets authentication find the user without asking every shard. Adding a shard does
+ * not move anything: buckets only change owner when the layout is changed explicitly.
+ */
+public final class ShardContext {
+  private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+  private static final ThreadLocal<Integer> CURRENT_BUCKET = new ThreadLocal<>();
+  private static volatile int shardCount = 1;
+  private static volatile int[] bucketOwners = {0};
+  private static volatile int[] firstBuckets = {0};
+
+  private ShardContext() {}
+
+  public static int getShardCount() {
+    return shardCount;
+  }
+
+  public static int getBucketCount() {
+    return bucketOwners.length;
+  }
+
+  static void configure(int shards, int[] owners) {
+    int[] first = new int[shards];
+    Arrays.fill(first, -1);
+    for (int bucket = owners.length - 1; bucket >= 0; bucket--) {
+      first[owners[bucket]] = bucket;
+    }
+    bucketOwners = owners.clone();
+    firstBuckets = first;
+    shardCount = shards;
+  }
+
+  public static int current() {
+    Integer shard = CURRENT.get();
+    return shard == null ? 0 : shard;
+  }
+
+  /**
+   * Returns the bucket new ids are allocated in: the selected bucket, or the first bucket owned by
+   * the current shard when work was only routed by shard.
+   */
+  public static int currentBucket() {
+    Integer bucket = CURRENT_BUCKET.get();
+    if (bucket != null) {
+      return bucket;
+    }
+    int shard = current();
+    if (firstBuckets[shard] < 0) {
+      throw new IllegalStateException("Shard " + shard + " owns no buckets");
+    }
+    return firstBuckets[shard];
+  }
+
+  public static int bucketOfId(long id) {
+    return (int) Math.floorMod(id, (long) bucketOwners.length);
+  }
+
+  public static int bucketOfUsername(String username) {
+    return Math.floorMod(username.hashCode(), bucketOwners.length);
+  }
+
+  public static int shardOfBucket(int bucket) {
+    return bucketOwners[bucket];
+  }
+
+  public static int shardOfId(long id) {
+    return shardOfBucket(bucketOfId(id));
+  }
+
+  public static int shardOfUsername(String username) {
+    return shardOfBucket(bucketOfUsername(username));
+  }
+
+  public static Scope use(int shard) {
+    Scope scope = new Scope(CURRENT.get(), CURRENT_BUCKET.get());
+    CURRENT.set(shard);
+    CURRENT_BUCKET.remove();
+    return scope;
+  }
+
+  public static Scope useBucket(int bucket) {
+    Scope scope = new Scope(CURRENT.get(), CURRENT_BUCKET.get());
+    CURRENT.set(shardOfBucket(bucket));
+    CURRENT_BUCKET.set(bucket);
+    return scope;
+  }
+
+  public static <T> T call(int shard, Supplier<T> action) {
+    try (Scope scope = use(shard)) {
+      return action.get();
+    }
+  }
+
+  public static final class Scope implements AutoCloseable {
+    private final Integer previous;
+    private final Integer previousBucket;
+
+    private Scope(Integer previous, Integer previousBucket) {
+      this.previous = previous;
+      this.previousBucket = previousBucket;
+    }
+
+    @Override
+    public void close() {
+      restore(CURRENT, previous);
+      restore(CURRENT_BUCKET, previousBucket);
+    }
+
+    private static void restore(ThreadLocal<Integer> holder, Integer value) {
+      if (value == null) {
+        holder.remove();
+      } else {
+        holder.set(value);
+      }
+    }
+  }
+}
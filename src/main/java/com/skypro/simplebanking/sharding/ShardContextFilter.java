@@ -0,0 +1,35 @@
+package com.skypro.simplebanking.sharding;
+
+import com.skypro.simplebanking.dto.BankingUserDetails;
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class ShardContextFilter extends OncePerRequestFilter {
+  @Override
+  protected void doFilterInternal(
+      @NonNull HttpServletRequest request,
+      @NonNull HttpServletResponse response,
+      @NonNull FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication == null
+        || !(authentication.getPrincipal() instanceof BankingUserDetails)
+        || ((BankingUserDetails) authentication.getPrincipal()).getId() < 0) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    long userId = ((BankingUserDetails) authentication.getPrincipal()).getId();
+    try (ShardContext.Scope scope = ShardContext.useBucket(ShardContext.bucketOfId(userId))) {
+      filterChain.doFilter(request, response);
+    }
+  }
+}
@@ -0,0 +1,119 @@
+package com.skypro.simplebanking.sharding;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The bucket-to-shard assignment, persisted in the shard_buckets table of shard 0 so it does not
+ * depend on how many shards happen to be configured. The first start stores the configured layout,
+ * or an even split when none is configured. Later starts use the stored layout and refuse to start
+ * when the bucket count or an explicitly configured assignment disagrees with it, instead of
+ * silently routing existing users to the wrong database.
+ *
+ * <p>A newly added shard owns no buckets until some are moved to it: copy the bucket's users with
+ * their accounts, movements, holds and transfers, advance the new shard's sequences past the old
+ * shard's values, then update shard_buckets and {@code app.sharding.shards[i].buckets} together.
+ */
+public final class ShardLayout {
+  private ShardLayout() {}
+
+  public static int[] load(DataSource catalog, int shardCount, int bucketCount, int[] configured) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(catalog);
+    jdbcTemplate.execute(
+        "create table if not exists shard_buckets"
+            + " (bucket integer primary key, shard integer not null)");
+    Integer stored =
+        jdbcTemplate.queryForObject("select count(*) from shard_buckets", Integer.class);
+    if (stored == null || stored == 0) {
+      int[] initial = configured != null ? configured : evenSplit(shardCount, bucketCount);
+      jdbcTemplate.batchUpdate(
+          "insert into shard_buckets (bucket, shard) values (?, ?) on conflict (bucket) do nothing",
+          IntStream.range(0, bucketCount)
+              .mapToObj(bucket -> new Object[] {bucket, initial[bucket]})
+              .collect(Collectors.toList()));
+    }
+    List<int[]> rows =
+        jdbcTemplate.query(
+            "select bucket, shard from shard_buckets order by bucket",
+            (resultSet, rowNum) -> new int[] {resultSet.getInt(1), resultSet.getInt(2)});
+    if (rows.size() != bucketCount) {
+      throw new IllegalStateException(
+          "shard_buckets holds "
+              + rows.size()
+              + " buckets but app.sharding.bucket-count is "
+              + bucketCount);
+    }
+    int[] owners = new int[bucketCount];
+    for (int[] row : rows) {
+      int bucket = row[0];
+      int shard = row[1];
+      if (bucket < 0 || bucket >= bucketCount) {
+        throw new IllegalStateException("shard_buckets holds unknown bucket " + bucket);
+      }
+      if (shard < 0 || shard >= shardCount) {
+        throw new IllegalStateException(
+            "Bucket " + bucket + " is owned by shard " + shard + ", which is not configured");
+      }
+      if (configured != null && configured[bucket] != shard) {
+        throw new IllegalStateException(
+            "Bucket "
+                + bucket
+                + " is owned by shard "
+                + shard
+                + " in shard_buckets but assigned to shard "
+                + configured[bucket]
+                + " in app.sharding.shards");
+      }
+      owners[bucket] = shard;
+    }
+    return owners;
+  }
+
+  /**
+   * Parses per-shard bucket lists such as {@code "0-511,1000"}. Returns {@code null} when no shard
+   * lists any buckets; otherwise every bucket must be assigned to exactly one shard.
+   */
+  public static int[] parse(List<String> shardBuckets, int bucketCount) {
+    if (shardBuckets.stream().allMatch(buckets -> buckets == null || buckets.isBlank())) {
+      return null;
+    }
+    int[] owners = new int[bucketCount];
+    Arrays.fill(owners, -1);
+    for (int shard = 0; shard < shardBuckets.size(); shard++) {
+      String buckets = shardBuckets.get(shard);
+      if (buckets == null || buckets.isBlank()) {
+        continue;
+      }
+      for (String range : buckets.split(",")) {
+        String[] bounds = range.trim().split("-");
+        int from = Integer.parseInt(bounds[0].trim());
+        int to = bounds.length > 1 ? Integer.parseInt(bounds[1].trim()) : from;
+        for (int bucket = from; bucket <= to; bucket++) {
+          if (bucket < 0 || bucket >= bucketCount || owners[bucket] >= 0) {
+            throw new IllegalStateException(
+                "Bucket " + bucket + " is out of range or assigned twice");
+          }
+          owners[bucket] = shard;
+        }
+      }
+    }
+    for (int bucket = 0; bucket < bucketCount; bucket++) {
+      if (owners[bucket] < 0) {
+        throw new IllegalStateException("Bucket " + bucket + " is not assigned to any shard");
+      }
+    }
+    return owners;
+  }
+
+  private static int[] evenSplit(int shardCount, int bucketCount) {
+    int[] owners = new int[bucketCount];
+    for (int bucket = 0; bucket < bucketCount; bucket++) {
+      owners[bucket] = (int) ((long) bucket * shardCount / bucketCount);
+    }
+    return owners;
+  }
+}
@@ -0,0 +1,39 @@
+package com.skypro.simplebanking.sharding;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+  private final List<DataSource> shards;
+
+  public ShardRoutingDataSource(List<DataSource> shards, int[] bucketOwners) {
+    this.shards = List.copyOf(shards);
+    Map<Object, Object> targets = new HashMap<>();
+    for (int shard = 0; shard < shards.size(); shard++) {
+      targets.put(shard, shards.get(shard));
+    }
+    setTargetDataSources(targets);
+    setDefaultTargetDataSource(shards.get(0));
+    setLenientFallback(false);
+    ShardContext.configure(shards.size(), bucketOwners);
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ShardContext.current();
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (DataSource shard : shards) {
+      if (shard instanceof Closeable) {
+        ((Closeable) shard).close();
+      }
+    }
+  }
+}
@@ -0,0 +1,50 @@
+package com.skypro.simplebanking.sharding;
+
+import java.util.EnumSet;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.schema.TargetType;
+
+/**
+ * Hibernate applies {@code ddl-auto} through the default shard only; this repeats the same schema
+ * action on every other shard once the entity manager factory is built.
+ */
+public class ShardSchemaInitializer {
+  private final ShardSchemaIntegrator integrator;
+  private final String ddlAuto;
+
+  public ShardSchemaInitializer(
+      EntityManagerFactory entityManagerFactory, ShardSchemaIntegrator integrator, String ddlAuto) {
+    this.integrator = integrator;
+    this.ddlAuto = ddlAuto;
+  }
+
+  @PostConstruct
+  public void createSchemas() {
+    for (int shard = 1; shard < ShardContext.getShardCount(); shard++) {
+      try (ShardContext.Scope scope = ShardContext.use(shard)) {
+        if ("create".equals(ddlAuto) || "create-drop".equals(ddlAuto)) {
+          new SchemaExport()
+              .create(EnumSet.of(TargetType.DATABASE), integrator.getMetadata());
+        } else if ("update".equals(ddlAuto)) {
+          new SchemaUpdate().execute(EnumSet.of(TargetType.DATABASE), integrator.getMetadata());
+        }
+      }
+    }
+  }
+
+  @PreDestroy
+  public void dropSchemas() {
+    if (!"create-drop".equals(ddlAuto)) {
+      return;
+    }
+    for (int shard = 1; shard < ShardContext.getShardCount(); shard++) {
+      try (ShardContext.Scope scope = ShardContext.use(shard)) {
+        new SchemaExport().drop(EnumSet.of(TargetType.DATABASE), integrator.getMetadata());
+      }
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.skypro.simplebanking.sharding;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+public class ShardSchemaIntegrator implements Integrator {
+  private volatile Metadata metadata;
+
+  @Override
+  public void integrate(
+      Metadata metadata,
+      SessionFactoryImplementor sessionFactory,
+      SessionFactoryServiceRegistry serviceRegistry) {
+    this.metadata = metadata;
+  }
+
+  @Override
+  public void disintegrate(
+      SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {}
+
+  public Metadata getMetadata() {
+    return metadata;
+  }
+}
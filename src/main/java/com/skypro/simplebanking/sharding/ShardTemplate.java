@@ -0,0 +1,73 @@
+package com.skypro.simplebanking.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs work in a transaction on an explicitly chosen shard. Request handling already runs on the
+ * caller's shard (see {@link ShardContextFilter}); this is for work that targets another user's
+ * shard, spans several shards, or runs outside a request.
+ */
+@Component
+public class ShardTemplate {
+  private final TransactionTemplate transaction;
+  private final TransactionTemplate readOnlyTransaction;
+  private final ExecutorService scatterExecutor;
+
+  public ShardTemplate(PlatformTransactionManager transactionManager) {
+    this.transaction = new TransactionTemplate(transactionManager);
+    this.transaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.scatterExecutor =
+        Executors.newFixedThreadPool(
+            ShardContext.getShardCount(), new CustomizableThreadFactory("shard-scatter-"));
+  }
+
+  public <T> T inShard(int shard, Supplier<T> action) {
+    return ShardContext.call(shard, () -> transaction.execute(status -> action.get()));
+  }
+
+  public <T> T inBucket(int bucket, Supplier<T> action) {
+    try (ShardContext.Scope scope = ShardContext.useBucket(bucket)) {
+      return transaction.execute(status -> action.get());
+    }
+  }
+
+  public <T> T inShardReadOnly(int shard, Supplier<T> action) {
+    return ShardContext.call(shard, () -> readOnlyTransaction.execute(status -> action.get()));
+  }
+
+  public <T> List<T> onAllShardsReadOnly(Supplier<List<T>> action) {
+    int shardCount = ShardContext.getShardCount();
+    if (shardCount == 1) {
+      return inShardReadOnly(0, action);
+    }
+    List<CompletableFuture<List<T>>> futures = new ArrayList<>(shardCount);
+    for (int shard = 0; shard < shardCount; shard++) {
+      int target = shard;
+      futures.add(
+          CompletableFuture.supplyAsync(() -> inShardReadOnly(target, action), scatterExecutor));
+    }
+    List<T> result = new ArrayList<>();
+    for (CompletableFuture<List<T>> future : futures) {
+      result.addAll(future.join());
+    }
+    return result;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scatterExecutor.shutdownNow();
+  }
+}
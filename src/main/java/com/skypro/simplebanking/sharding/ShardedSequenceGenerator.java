@@ -0,0 +1,55 @@
+package com.skypro.simplebanking.sharding;
+
+import java.io.Serializable;
+import java.util.Properties;
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Draws values from the current shard's sequence and interleaves them with the current bucket, so
+ * ids never collide across shards and always name the bucket they were allocated in. Every shard
+ * keeps its own pooled optimizer: sharing one would hand out values reserved from another shard's
+ * sequence.
+ */
+public class ShardedSequenceGenerator implements IdentifierGenerator {
+  private SequenceStyleGenerator[] delegates;
+
+  @Override
+  public void configure(Type type, Properties params, ServiceRegistry serviceRegistry)
+      throws MappingException {
+    delegates = new SequenceStyleGenerator[ShardContext.getShardCount()];
+    for (int shard = 0; shard < delegates.length; shard++) {
+      delegates[shard] = new SequenceStyleGenerator();
+      delegates[shard].configure(type, params, serviceRegistry);
+    }
+  }
+
+  @Override
+  public void registerExportables(Database database) {
+    for (SequenceStyleGenerator delegate : delegates) {
+      delegate.registerExportables(database);
+    }
+  }
+
+  @Override
+  public void initialize(SqlStringGenerationContext context) {
+    for (SequenceStyleGenerator delegate : delegates) {
+      delegate.initialize(context);
+    }
+  }
+
+  @Override
+  public Serializable generate(SharedSessionContractImplementor session, Object object)
+      throws HibernateException {
+    int bucket = ShardContext.currentBucket();
+    long value = ((Number) delegates[ShardContext.current()].generate(session, object)).longValue();
+    return value * ShardContext.getBucketCount() + bucket;
+  }
+}
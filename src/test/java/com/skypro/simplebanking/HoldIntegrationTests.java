@@ -0,0 +1,162 @@
+package com.skypro.simplebanking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.dto.HoldDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.HoldStatus;
+import com.skypro.simplebanking.exception.HoldNotActiveException;
+import com.skypro.simplebanking.exception.InsufficientFundsException;
+import com.skypro.simplebanking.repository.AccountHoldRepository;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.UserService;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/** Covers the hold lifecycle against a single Postgres database. */
+@SpringBootTest
+class HoldIntegrationTests {
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14");
+  private static final Duration HOLD_TTL = Duration.ofHours(1);
+
+  static {
+    POSTGRES.start();
+  }
+
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private AccountHoldRepository accountHoldRepository;
+
+  @DynamicPropertySource
+  static void databaseProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("app.hold.ttl-ms", HOLD_TTL::toMillis);
+    registry.add("app.hold.sweep-interval-ms", () -> 3600000);
+  }
+
+  @Test
+  void holdReservesFundsUntilCaptured() {
+    UserDTO user = userWithBalance(1000);
+    long accountId = usdAccount(user);
+
+    HoldDTO hold = accountService.holdFunds(user.getId(), accountId, 400);
+
+    assertEquals(HoldStatus.ACTIVE, hold.getStatus());
+    assertEquals(601, balance(user, accountId));
+
+    HoldDTO captured = accountService.captureHold(user.getId(), hold.getId(), 150);
+
+    assertEquals(HoldStatus.CAPTURED, captured.getStatus());
+    assertEquals(Long.valueOf(150), captured.getCapturedAmount());
+    assertEquals(851, balance(user, accountId));
+  }
+
+  @Test
+  void releaseReturnsTheWholeHold() {
+    UserDTO user = userWithBalance(1000);
+    long accountId = usdAccount(user);
+    HoldDTO hold = accountService.holdFunds(user.getId(), accountId, 400);
+
+    HoldDTO released = accountService.releaseHold(user.getId(), hold.getId());
+
+    assertEquals(HoldStatus.RELEASED, released.getStatus());
+    assertEquals(1001, balance(user, accountId));
+  }
+
+  @Test
+  void rejectsSecondCapture() {
+    UserDTO user = userWithBalance(1000);
+    long accountId = usdAccount(user);
+    HoldDTO hold = accountService.holdFunds(user.getId(), accountId, 400);
+    accountService.captureHold(user.getId(), hold.getId(), 400);
+
+    assertThrows(
+        HoldNotActiveException.class,
+        () -> accountService.captureHold(user.getId(), hold.getId(), 400));
+    assertThrows(
+        HoldNotActiveException.class, () -> accountService.releaseHold(user.getId(), hold.getId()));
+    assertEquals(601, balance(user, accountId));
+  }
+
+  @Test
+  void rejectsSecondRelease() {
+    UserDTO user = userWithBalance(1000);
+    long accountId = usdAccount(user);
+    HoldDTO hold = accountService.holdFunds(user.getId(), accountId, 400);
+    accountService.releaseHold(user.getId(), hold.getId());
+
+    assertThrows(
+        HoldNotActiveException.class, () -> accountService.releaseHold(user.getId(), hold.getId()));
+    assertThrows(
+        HoldNotActiveException.class,
+        () -> accountService.captureHold(user.getId(), hold.getId(), 100));
+    assertEquals(1001, balance(user, accountId));
+  }
+
+  @Test
+  void rejectsHoldLargerThanBalance() {
+    UserDTO user = userWithBalance(1000);
+    long accountId = usdAccount(user);
+
+    assertThrows(
+        InsufficientFundsException.class,
+        () -> accountService.holdFunds(user.getId(), accountId, 1002));
+    assertEquals(1001, balance(user, accountId));
+  }
+
+  @Test
+  void expiryReturnsFundsAndBlocksCapture() {
+    UserDTO user = userWithBalance(1000);
+    long accountId = usdAccount(user);
+    HoldDTO first = accountService.holdFunds(user.getId(), accountId, 300);
+    HoldDTO second = accountService.holdFunds(user.getId(), accountId, 200);
+    HoldDTO captured = accountService.holdFunds(user.getId(), accountId, 100);
+    accountService.captureHold(user.getId(), captured.getId(), 100);
+
+    int expired = accountService.expireHolds(Instant.now().plus(HOLD_TTL.multipliedBy(2)), 500);
+
+    assertTrue(expired >= 2);
+    assertEquals(HoldStatus.EXPIRED, statusOf(first));
+    assertEquals(HoldStatus.EXPIRED, statusOf(second));
+    assertEquals(HoldStatus.CAPTURED, statusOf(captured));
+    assertEquals(901, balance(user, accountId));
+    assertThrows(
+        HoldNotActiveException.class,
+        () -> accountService.captureHold(user.getId(), first.getId(), 300));
+    assertEquals(901, balance(user, accountId));
+  }
+
+  private UserDTO userWithBalance(long amount) {
+    UserDTO user = userService.createUser(UUID.randomUUID().toString(), "password");
+    accountService.depositToAccount(user.getId(), usdAccount(user), amount);
+    return user;
+  }
+
+  private long balance(UserDTO user, long accountId) {
+    return accountService.getAccount(user.getId(), accountId).getAmount();
+  }
+
+  private HoldStatus statusOf(HoldDTO hold) {
+    return accountHoldRepository.findById(hold.getId()).orElseThrow().getStatus();
+  }
+
+  private static long usdAccount(UserDTO user) {
+    return user.getAccounts().stream()
+        .filter(account -> account.getCurrency() == AccountCurrency.USD)
+        .findFirst()
+        .orElseThrow()
+        .getId();
+  }
+}
@@ -0,0 +1,229 @@
+package com.skypro.simplebanking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.TransferOutbox;
+import com.skypro.simplebanking.entity.TransferStatus;
+import com.skypro.simplebanking.repository.TransferOutboxRepository;
+import com.skypro.simplebanking.service.AccountService;
+import com.skypro.simplebanking.service.TransferOutboxRelay;
+import com.skypro.simplebanking.service.TransferService;
+import com.skypro.simplebanking.service.UserService;
+import com.skypro.simplebanking.sharding.ShardContext;
+import com.skypro.simplebanking.sharding.ShardTemplate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/** Runs the application against two databases in one Postgres container, one per shard. */
+@SpringBootTest
+class ShardingIntegrationTests {
+  private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14");
+
+  static {
+    POSTGRES.start();
+    database(POSTGRES.getJdbcUrl()).execute("create database shard1");
+  }
+
+  @Autowired private UserService userService;
+  @Autowired private AccountService accountService;
+  @Autowired private TransferService transferService;
+  @Autowired private TransferOutboxRelay transferOutboxRelay;
+  @Autowired private TransferOutboxRepository transferOutboxRepository;
+  @Autowired private ShardTemplate shardTemplate;
+
+  @DynamicPropertySource
+  static void shardProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+    registry.add("spring.datasource.username", POSTGRES::getUsername);
+    registry.add("spring.datasource.password", POSTGRES::getPassword);
+    registry.add("app.sharding.bucket-count", () -> 16);
+    registry.add("app.sharding.shards[0].url", POSTGRES::getJdbcUrl);
+    registry.add("app.sharding.shards[0].username", POSTGRES::getUsername);
+    registry.add("app.sharding.shards[0].password", POSTGRES::getPassword);
+    registry.add("app.sharding.shards[1].url", ShardingIntegrationTests::shard1Url);
+    registry.add("app.sharding.shards[1].username", POSTGRES::getUsername);
+    registry.add("app.sharding.shards[1].password", POSTGRES::getPassword);
+    registry.add("app.transfer.outbox-relay-interval-ms", () -> 3600000);
+  }
+
+  @Test
+  void allocatesUserAndAccountIdsInTheUsernameBucket() {
+    String username = usernameOnShard(1);
+
+    UserDTO user = userService.createUser(username, "password");
+
+    int bucket = ShardContext.bucketOfUsername(username);
+    assertEquals(bucket, ShardContext.bucketOfId(user.getId()));
+    for (AccountDTO account : user.getAccounts()) {
+      assertEquals(bucket, ShardContext.bucketOfId(account.getId()));
+    }
+    assertEquals(0, countUsers(POSTGRES.getJdbcUrl(), user.getId()));
+    assertEquals(1, countUsers(shard1Url(), user.getId()));
+  }
+
+  @Test
+  void transfersAcrossShardsOnceEvenWhenDeliveredTwice() {
+    UserDTO sender = userService.createUser(usernameOnShard(0), "password");
+    UserDTO recipient = userService.createUser(usernameOnShard(1), "password");
+    long senderAccount = usdAccount(sender);
+    long recipientAccount = usdAccount(recipient);
+    deposit(sender, senderAccount, 1000);
+
+    transferService.transfer(
+        sender.getId(), transferRequest(senderAccount, recipient.getId(), recipientAccount, 400));
+    long transferId = outboxOf(sender).getId();
+    shardTemplate.inShard(
+        0,
+        () ->
+            transferOutboxRepository.updateStatus(
+                transferId, TransferStatus.COMPLETED, TransferStatus.PENDING));
+    transferService.deliver(0, transferId);
+
+    assertEquals(TransferStatus.COMPLETED, outboxOf(sender).getStatus());
+    assertEquals(601, balance(sender, senderAccount));
+    assertEquals(401, balance(recipient, recipientAccount));
+  }
+
+  @Test
+  void refundsTransferRejectedByTargetShard() {
+    UserDTO sender = userService.createUser(usernameOnShard(0), "password");
+    UserDTO recipient = userService.createUser(usernameOnShard(1), "password");
+    long senderAccount = usdAccount(sender);
+    deposit(sender, senderAccount, 1000);
+    long transferId = reserve(sender, senderAccount, recipient.getId(), -1L, 300, Instant.now());
+
+    transferService.deliver(0, transferId);
+
+    assertEquals(TransferStatus.REFUNDED, outboxOf(sender).getStatus());
+    assertEquals(1001, balance(sender, senderAccount));
+  }
+
+  @Test
+  void relayDeliversInterruptedTransfers() {
+    UserDTO sender = userService.createUser(usernameOnShard(0), "password");
+    UserDTO recipient = userService.createUser(usernameOnShard(1), "password");
+    long senderAccount = usdAccount(sender);
+    long recipientAccount = usdAccount(recipient);
+    deposit(sender, senderAccount, 1000);
+    reserve(
+        sender,
+        senderAccount,
+        recipient.getId(),
+        recipientAccount,
+        250,
+        Instant.now().minus(Duration.ofHours(1)));
+
+    transferOutboxRelay.relayPendingTransfers();
+
+    assertEquals(TransferStatus.COMPLETED, outboxOf(sender).getStatus());
+    assertEquals(751, balance(sender, senderAccount));
+    assertEquals(251, balance(recipient, recipientAccount));
+  }
+
+  private long reserve(
+      UserDTO sender,
+      long senderAccount,
+      long toUserId,
+      long toAccountId,
+      long amount,
+      Instant createdAt) {
+    return shardTemplate.inShard(
+        ShardContext.shardOfId(sender.getId()),
+        () -> {
+          accountService.withdrawFromAccount(sender.getId(), senderAccount, amount);
+          TransferOutbox transfer = new TransferOutbox();
+          transfer.setFromUserId(sender.getId());
+          transfer.setFromAccountId(senderAccount);
+          transfer.setToUserId(toUserId);
+          transfer.setToAccountId(toAccountId);
+          transfer.setAmount(amount);
+          transfer.setCreditAmount(amount);
+          transfer.setStatus(TransferStatus.PENDING);
+          transfer.setCreatedAt(createdAt);
+          return transferOutboxRepository.save(transfer).getId();
+        });
+  }
+
+  private void deposit(UserDTO user, long accountId, long amount) {
+    shardTemplate.inShard(
+        ShardContext.shardOfId(user.getId()),
+        () -> accountService.depositToAccount(user.getId(), accountId, amount));
+  }
+
+  private long balance(UserDTO user, long accountId) {
+    return shardTemplate.inShardReadOnly(
+        ShardContext.shardOfId(user.getId()),
+        () -> accountService.getAccount(user.getId(), accountId).getAmount());
+  }
+
+  private TransferOutbox outboxOf(UserDTO sender) {
+    return shardTemplate.inShardReadOnly(
+        ShardContext.shardOfId(sender.getId()),
+        () ->
+            transferOutboxRepository.findAll().stream()
+                .filter(transfer -> transfer.getFromUserId() == sender.getId())
+                .findFirst()
+                .orElseThrow());
+  }
+
+  private static long usdAccount(UserDTO user) {
+    return user.getAccounts().stream()
+        .filter(account -> account.getCurrency() == AccountCurrency.USD)
+        .findFirst()
+        .orElseThrow()
+        .getId();
+  }
+
+  private static TransferRequest transferRequest(
+      long fromAccountId, long toUserId, long toAccountId, long amount) {
+    TransferRequest transferRequest = new TransferRequest();
+    transferRequest.setFromAccountId(fromAccountId);
+    transferRequest.setToUserId(toUserId);
+    transferRequest.setToAccountId(toAccountId);
+    transferRequest.setAmount(amount);
+    return transferRequest;
+  }
+
+  private static String usernameOnShard(int shard) {
+    String prefix = UUID.randomUUID().toString();
+    for (int suffix = 0; ; suffix++) {
+      String username = prefix + suffix;
+      if (ShardContext.shardOfUsername(username) == shard) {
+        return username;
+      }
+    }
+  }
+
+  private static int countUsers(String url, long userId) {
+    Integer count =
+        database(url)
+            .queryForObject("select count(*) from users where id = ?", Integer.class, userId);
+    return count == null ? 0 : count;
+  }
+
+  private static String shard1Url() {
+    return "jdbc:postgresql://"
+        + POSTGRES.getHost()
+        + ":"
+        + POSTGRES.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT)
+        + "/shard1";
+  }
+
+  private static JdbcTemplate database(String url) {
+    return new JdbcTemplate(
+        new DriverManagerDataSource(url, POSTGRES.getUsername(), POSTGRES.getPassword()));
+  }
+}
@@ -0,0 +1,102 @@
+package com.skypro.simplebanking.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AuditRingBufferTest {
+  @Test
+  void keepsOrderAcrossWrapAround() {
+    AuditRingBuffer buffer = new AuditRingBuffer(4);
+    List<AuditEvent> drained = new ArrayList<>();
+
+    for (long round = 0; round < 10; round++) {
+      for (long i = 0; i < 3; i++) {
+        assertTrue(buffer.offer(movement(round * 3 + i)));
+      }
+      assertEquals(3, buffer.drainTo(drained, 10));
+    }
+
+    assertTrue(buffer.isEmpty());
+    for (int i = 0; i < drained.size(); i++) {
+      assertEquals((long) i, drained.get(i).getAccountId());
+    }
+  }
+
+  @Test
+  void rejectsOffersWhenFullUntilDrained() {
+    AuditRingBuffer buffer = new AuditRingBuffer(4);
+    for (long i = 0; i < 4; i++) {
+      assertTrue(buffer.offer(movement(i)));
+    }
+
+    assertFalse(buffer.offer(movement(4)));
+
+    List<AuditEvent> drained = new ArrayList<>();
+    assertEquals(1, buffer.drainTo(drained, 1));
+    assertTrue(buffer.offer(movement(4)));
+    assertFalse(buffer.offer(movement(5)));
+    assertEquals(4, buffer.drainTo(drained, 10));
+    assertEquals(5, drained.size());
+    assertEquals(4L, drained.get(4).getAccountId());
+  }
+
+  @Test
+  void acceptsEveryEventFromConcurrentProducersExactlyOnce() throws InterruptedException {
+    int producers = 8;
+    int eventsPerProducer = 20_000;
+    AuditRingBuffer buffer = new AuditRingBuffer(1024);
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int producer = 0; producer < producers; producer++) {
+      long first = (long) producer * eventsPerProducer;
+      executor.execute(
+          () -> {
+            awaitQuietly(start);
+            for (long id = first; id < first + eventsPerProducer; id++) {
+              while (!buffer.offer(movement(id))) {
+                Thread.onSpinWait();
+              }
+            }
+          });
+    }
+
+    start.countDown();
+    Set<Long> seen = new HashSet<>();
+    List<AuditEvent> batch = new ArrayList<>();
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+    while (seen.size() < producers * eventsPerProducer && System.nanoTime() < deadline) {
+      batch.clear();
+      buffer.drainTo(batch, 256);
+      for (AuditEvent event : batch) {
+        assertTrue(seen.add(event.getAccountId()));
+      }
+    }
+    executor.shutdown();
+
+    assertEquals(producers * eventsPerProducer, seen.size());
+    assertTrue(buffer.isEmpty());
+  }
+
+  private static AuditEvent movement(long accountId) {
+    return AuditEvent.movement(1L, accountId, 1);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
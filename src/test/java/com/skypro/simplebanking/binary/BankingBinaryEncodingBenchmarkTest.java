@@ -0,0 +1,104 @@
+package com.skypro.simplebanking.binary;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.ListAccountDTO;
+import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * Rough serialization benchmark against the JSON converter the application uses by default. Each
+ * payload is encoded through both converters after a warm-up; sizes are asserted and timings are
+ * printed, since wall-clock results vary too much between machines to assert. Tagged so the
+ * default build skips it; run it with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BankingBinaryEncodingBenchmarkTest {
+  private static final int WARM_UP_ITERATIONS = 20_000;
+  private static final int MEASURED_ITERATIONS = 100_000;
+  private static final Type LIST_USER_TYPE =
+      new ParameterizedTypeReference<List<ListUserDTO>>() {}.getType();
+
+  private final BankingBinaryMessageConverter binary = new BankingBinaryMessageConverter();
+  private final MappingJackson2HttpMessageConverter json =
+      new MappingJackson2HttpMessageConverter(new ObjectMapper());
+
+  @Test
+  void comparesAccount() throws IOException {
+    compare("AccountDTO", new AccountDTO(1L, 100_000L, AccountCurrency.USD), AccountDTO.class);
+  }
+
+  @Test
+  void comparesUser() throws IOException {
+    List<AccountDTO> accounts = new ArrayList<>();
+    for (AccountCurrency currency : AccountCurrency.values()) {
+      accounts.add(new AccountDTO(accounts.size() + 1L, 100_000L, currency));
+    }
+    compare("UserDTO", new UserDTO(1L, "user1", accounts), UserDTO.class);
+  }
+
+  @Test
+  void comparesUserList() throws IOException {
+    List<ListUserDTO> users = new ArrayList<>();
+    for (long id = 1; id <= 100; id++) {
+      List<ListAccountDTO> accounts = new ArrayList<>();
+      for (AccountCurrency currency : AccountCurrency.values()) {
+        accounts.add(new ListAccountDTO(id * 10 + currency.ordinal(), currency));
+      }
+      users.add(new ListUserDTO(id, "user" + id, accounts));
+    }
+    compare("List<ListUserDTO> x100", users, LIST_USER_TYPE);
+  }
+
+  private void compare(String name, Object payload, Type type) throws IOException {
+    int binarySize = encode(binary, payload, type, BankingBinaryMessageConverter.MEDIA_TYPE);
+    int jsonSize = encode(json, payload, type, MediaType.APPLICATION_JSON);
+    long binaryNanos = time(binary, payload, type, BankingBinaryMessageConverter.MEDIA_TYPE);
+    long jsonNanos = time(json, payload, type, MediaType.APPLICATION_JSON);
+    System.out.printf(
+        "%s: binary %d bytes, %d ns/op; json %d bytes, %d ns/op%n",
+        name, binarySize, binaryNanos, jsonSize, jsonNanos);
+    assertTrue(binarySize < jsonSize);
+  }
+
+  private static long time(
+      GenericHttpMessageConverter<Object> converter,
+      Object payload,
+      Type type,
+      MediaType mediaType)
+      throws IOException {
+    for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+      encode(converter, payload, type, mediaType);
+    }
+    long started = System.nanoTime();
+    for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+      encode(converter, payload, type, mediaType);
+    }
+    return (System.nanoTime() - started) / MEASURED_ITERATIONS;
+  }
+
+  private static int encode(
+      GenericHttpMessageConverter<Object> converter,
+      Object payload,
+      Type type,
+      MediaType mediaType)
+      throws IOException {
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    converter.write(payload, type, mediaType, output);
+    return output.getBodyAsBytes().length;
+  }
+}
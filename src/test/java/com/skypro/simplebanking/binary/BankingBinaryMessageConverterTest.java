@@ -0,0 +1,158 @@
+package com.skypro.simplebanking.binary;
+
+import static com.skypro.simplebanking.binary.BankingBinaryMessageConverter.MEDIA_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.skypro.simplebanking.dto.AccountDTO;
+import com.skypro.simplebanking.dto.ListAccountDTO;
+import com.skypro.simplebanking.dto.ListUserDTO;
+import com.skypro.simplebanking.dto.TransferRequest;
+import com.skypro.simplebanking.dto.UserDTO;
+import com.skypro.simplebanking.entity.AccountCurrency;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class BankingBinaryMessageConverterTest {
+  private static final Type LIST_USER_TYPE =
+      new ParameterizedTypeReference<List<ListUserDTO>>() {}.getType();
+
+  private final BankingBinaryMessageConverter converter = new BankingBinaryMessageConverter();
+
+  @Test
+  void roundTripsAccount() throws IOException {
+    AccountDTO account = new AccountDTO(42L, 123_456L, AccountCurrency.EUR);
+
+    MockHttpOutputMessage output = write(account, AccountDTO.class);
+
+    assertEquals(17, output.getBodyAsBytes().length);
+    assertEquals(17L, output.getHeaders().getContentLength());
+    AccountDTO decoded = readAccount(input(output));
+    assertAccountEquals(account, decoded);
+  }
+
+  @Test
+  void roundTripsUser() throws IOException {
+    UserDTO user =
+        new UserDTO(
+            7L,
+            "пользователь",
+            List.of(
+                new AccountDTO(1L, 100L, AccountCurrency.USD),
+                new AccountDTO(2L, 200L, AccountCurrency.RUB)));
+
+    DataInputStream in = input(write(user, UserDTO.class));
+
+    assertEquals(user.getId(), in.readLong());
+    assertEquals(user.getUsername(), in.readUTF());
+    assertEquals(2, in.readInt());
+    for (AccountDTO account : user.getAccounts()) {
+      assertAccountEquals(account, readAccount(in));
+    }
+    assertEquals(-1, in.read());
+  }
+
+  @Test
+  void roundTripsListUsers() throws IOException {
+    List<ListUserDTO> users =
+        List.of(
+            new ListUserDTO(1L, "alice", List.of(new ListAccountDTO(10L, AccountCurrency.USD))),
+            new ListUserDTO(2L, "bob", List.of()));
+
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    assertTrue(converter.canWrite(LIST_USER_TYPE, List.class, MEDIA_TYPE));
+    converter.write(users, LIST_USER_TYPE, MEDIA_TYPE, output);
+
+    DataInputStream in = input(output);
+    assertEquals(2, in.readInt());
+    List<ListUserDTO> decoded = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      long id = in.readLong();
+      String username = in.readUTF();
+      int accountCount = in.readInt();
+      List<ListAccountDTO> accounts = new ArrayList<>();
+      for (int j = 0; j < accountCount; j++) {
+        accounts.add(
+            new ListAccountDTO(in.readLong(), AccountCurrency.values()[in.readUnsignedByte()]));
+      }
+      decoded.add(new ListUserDTO(id, username, accounts));
+    }
+    assertEquals(-1, in.read());
+    assertEquals("alice", decoded.get(0).getUsername());
+    assertEquals(10L, decoded.get(0).getAccounts().get(0).getAccountId());
+    assertEquals(AccountCurrency.USD, decoded.get(0).getAccounts().get(0).getCurrency());
+    assertEquals("bob", decoded.get(1).getUsername());
+    assertTrue(decoded.get(1).getAccounts().isEmpty());
+  }
+
+  @Test
+  void roundTripsTransferRequest() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeLong(1L);
+    out.writeLong(2L);
+    out.writeLong(3L);
+    out.writeLong(4_000L);
+
+    TransferRequest transferRequest =
+        (TransferRequest)
+            converter.read(
+                TransferRequest.class, null, new MockHttpInputMessage(bytes.toByteArray()));
+
+    assertEquals(1L, transferRequest.getFromAccountId());
+    assertEquals(2L, transferRequest.getToUserId());
+    assertEquals(3L, transferRequest.getToAccountId());
+    assertEquals(4_000L, transferRequest.getAmount());
+  }
+
+  @Test
+  void rejectsTruncatedTransferRequest() {
+    assertThrows(
+        HttpMessageNotReadableException.class,
+        () -> converter.read(TransferRequest.class, null, new MockHttpInputMessage(new byte[12])));
+  }
+
+  @Test
+  void readsOnlyTransferRequestsAndWritesOnlyResponses() {
+    assertTrue(converter.canRead(TransferRequest.class, MEDIA_TYPE));
+    assertFalse(converter.canRead(AccountDTO.class, MEDIA_TYPE));
+    assertFalse(converter.canRead(UserDTO.class, MEDIA_TYPE));
+    assertFalse(converter.canRead(ListUserDTO.class, MEDIA_TYPE));
+    assertTrue(converter.canWrite(AccountDTO.class, MEDIA_TYPE));
+    assertFalse(converter.canWrite(TransferRequest.class, MEDIA_TYPE));
+  }
+
+  private MockHttpOutputMessage write(Object body, Class<?> type) throws IOException {
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    converter.write(body, type, MEDIA_TYPE, output);
+    return output;
+  }
+
+  private static DataInputStream input(MockHttpOutputMessage output) {
+    return new DataInputStream(new ByteArrayInputStream(output.getBodyAsBytes()));
+  }
+
+  private static AccountDTO readAccount(DataInputStream in) throws IOException {
+    return new AccountDTO(
+        in.readLong(), in.readLong(), AccountCurrency.values()[in.readUnsignedByte()]);
+  }
+
+  private static void assertAccountEquals(AccountDTO expected, AccountDTO actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getAmount(), actual.getAmount());
+    assertEquals(expected.getCurrency(), actual.getCurrency());
+  }
+}
@@ -0,0 +1,103 @@
+package com.skypro.simplebanking.fx;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.entity.ExchangeRate;
+import com.skypro.simplebanking.exception.InvalidAmountException;
+import com.skypro.simplebanking.exception.WrongCurrencyException;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExchangeRateSnapshotTest {
+  @Test
+  void passesSameCurrencyThroughWithoutVersion() {
+    ExchangeRateSnapshot snapshot =
+        ExchangeRateSnapshot.of(List.of(rate(5L, AccountCurrency.USD, AccountCurrency.EUR, "0.9")));
+
+    CurrencyConversion conversion =
+        snapshot.convert(12_345L, AccountCurrency.RUB, AccountCurrency.RUB);
+
+    assertEquals(12_345L, conversion.getCreditAmount());
+    assertNull(conversion.getRateVersion());
+  }
+
+  @Test
+  void roundsDownToTargetMinorUnits() {
+    ExchangeRateSnapshot snapshot =
+        ExchangeRateSnapshot.of(
+            List.of(rate(7L, AccountCurrency.USD, AccountCurrency.EUR, "0.92345678")));
+
+    CurrencyConversion conversion =
+        snapshot.convert(1_001L, AccountCurrency.USD, AccountCurrency.EUR);
+
+    // 1001 * 0.92345678 = 924.38...; the fraction of a minor unit is never credited.
+    assertEquals(924L, conversion.getCreditAmount());
+    assertEquals(7L, conversion.getRateVersion());
+  }
+
+  @Test
+  void usesNewestRowIdAsVersion() {
+    ExchangeRateSnapshot snapshot =
+        ExchangeRateSnapshot.of(
+            List.of(
+                rate(3L, AccountCurrency.USD, AccountCurrency.EUR, "0.9"),
+                rate(11L, AccountCurrency.EUR, AccountCurrency.RUB, "100")));
+
+    assertEquals(11L, snapshot.getVersion());
+    assertEquals(
+        11L, snapshot.convert(100L, AccountCurrency.USD, AccountCurrency.EUR).getRateVersion());
+  }
+
+  @Test
+  void treatsRatesAsDirectional() {
+    ExchangeRateSnapshot snapshot =
+        ExchangeRateSnapshot.of(List.of(rate(1L, AccountCurrency.USD, AccountCurrency.EUR, "0.9")));
+
+    assertThrows(
+        WrongCurrencyException.class,
+        () -> snapshot.convert(100L, AccountCurrency.EUR, AccountCurrency.USD));
+  }
+
+  @Test
+  void rejectsMissingRate() {
+    assertThrows(
+        WrongCurrencyException.class,
+        () -> ExchangeRateSnapshot.empty().convert(100L, AccountCurrency.USD, AccountCurrency.RUB));
+  }
+
+  @Test
+  void rejectsAmountThatConvertsToNothing() {
+    ExchangeRateSnapshot snapshot =
+        ExchangeRateSnapshot.of(
+            List.of(rate(1L, AccountCurrency.RUB, AccountCurrency.USD, "0.0001")));
+
+    assertThrows(
+        InvalidAmountException.class,
+        () -> snapshot.convert(99L, AccountCurrency.RUB, AccountCurrency.USD));
+  }
+
+  @Test
+  void rejectsCreditThatOverflows() {
+    ExchangeRateSnapshot snapshot =
+        ExchangeRateSnapshot.of(
+            List.of(rate(1L, AccountCurrency.USD, AccountCurrency.RUB, "99999999999")));
+
+    assertThrows(
+        InvalidAmountException.class,
+        () -> snapshot.convert(Long.MAX_VALUE / 2, AccountCurrency.USD, AccountCurrency.RUB));
+  }
+
+  private static ExchangeRate rate(
+      long id, AccountCurrency base, AccountCurrency quote, String value) {
+    ExchangeRate exchangeRate = new ExchangeRate();
+    exchangeRate.setId(id);
+    exchangeRate.setBaseCurrency(base);
+    exchangeRate.setQuoteCurrency(quote);
+    exchangeRate.setRate(new BigDecimal(value));
+    return exchangeRate;
+  }
+}
@@ -0,0 +1,34 @@
+package com.skypro.simplebanking.service;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.skypro.simplebanking.entity.AccountCurrency;
+import com.skypro.simplebanking.exception.InvalidExchangeRateException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Test;
+
+class ExchangeRateServiceTest {
+  // Validation runs before any repository access.
+  private final ExchangeRateService exchangeRateService = new ExchangeRateService(null, null);
+
+  @Test
+  void rejectsRateWithTooManyIntegerDigits() {
+    assertThrows(
+        InvalidExchangeRateException.class,
+        () -> addRate(new BigDecimal("100000000000")));
+  }
+
+  @Test
+  void rejectsRateWithTooManyDecimals() {
+    assertThrows(InvalidExchangeRateException.class, () -> addRate(new BigDecimal("0.123456789")));
+  }
+
+  @Test
+  void rejectsNonPositiveRate() {
+    assertThrows(InvalidExchangeRateException.class, () -> addRate(BigDecimal.ZERO));
+  }
+
+  private void addRate(BigDecimal rate) {
+    exchangeRateService.addRate(AccountCurrency.USD, AccountCurrency.EUR, rate);
+  }
+}